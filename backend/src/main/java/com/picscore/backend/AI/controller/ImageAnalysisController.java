@@ -1,8 +1,12 @@
 package com.picscore.backend.AI.controller;
 
+import com.picscore.backend.AI.model.dto.AnalysisJob;
+import com.picscore.backend.AI.service.AnalysisJobService;
 import com.picscore.backend.AI.service.LavaImageService;
 import com.picscore.backend.AI.service.OpenAiImageService;
 import com.picscore.backend.common.model.response.BaseResponse;
+import com.picscore.backend.user.service.OAuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +25,8 @@ public class ImageAnalysisController {
 
     private final OpenAiImageService openAiImageService;
     private final LavaImageService lavaImageService;
+    private final AnalysisJobService analysisJobService;
+    private final OAuthService oAuthService;
 
     /**
      * 전달받은 이미지 URL을 분석하여 결과를 반환합니다.
@@ -36,12 +42,48 @@ public class ImageAnalysisController {
             @RequestParam String imageUrl) throws IOException {
 
         // GPT API 호출
-         return openAiImageService.analyzeImage(imageUrl, 0);
+         return openAiImageService.analyzeImage(imageUrl);
 
         // Lava API 분석 결과 반환
 //        return lavaImageService.analyzeImage(imageUrl);
     }
-}
 
 
+    /**
+     * 이미지 분석 작업을 등록하고 작업 ID를 즉시 반환합니다.
+     * 분석이 끝나면 SSE "analysis" 이벤트로 결과가 전달되며, 작업 조회 API로 폴링할 수도 있습니다.
+     *
+     * @param request HTTP 요청 객체 (사용자 인증 정보 포함)
+     * @param imageUrl 분석할 이미지의 URL
+     * @return 등록된 작업 (PENDING 상태)
+     *
+     * 예시 요청: POST /api/v1/image/analyze/jobs?imageUrl=https://example.com/image.jpg
+     */
+    @PostMapping("/analyze/jobs")
+    public ResponseEntity<BaseResponse<AnalysisJob>> submitAnalysisJob(
+            HttpServletRequest request, @RequestParam String imageUrl) {
+
+        Long userId = oAuthService.findIdByNickName(request);
+        AnalysisJob job = analysisJobService.submit(userId, imageUrl);
+
+        return ResponseEntity.accepted().body(BaseResponse.success("분석 작업 등록 완료", job));
+    }
 
+
+    /**
+     * 이미지 분석 작업의 상태와 결과를 조회합니다.
+     *
+     * @param request HTTP 요청 객체 (사용자 인증 정보 포함)
+     * @param jobId 작업 ID
+     * @return 작업 상태 (PENDING, DONE, FAILED)
+     */
+    @GetMapping("/analyze/jobs/{jobId}")
+    public ResponseEntity<BaseResponse<AnalysisJob>> getAnalysisJob(
+            HttpServletRequest request, @PathVariable String jobId) {
+
+        Long userId = oAuthService.findIdByNickName(request);
+        AnalysisJob job = analysisJobService.getJob(userId, jobId);
+
+        return ResponseEntity.ok(BaseResponse.success("분석 작업 조회 성공", job));
+    }
+}
@@ -0,0 +1,27 @@
+package com.picscore.backend.AI.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 비동기 AI 이미지 분석 작업의 상태
+ * Redis에 JSON으로 저장되며, 폴링 응답과 SSE 완료 이벤트에 그대로 사용됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisJob {
+
+    public static final String PENDING = "PENDING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private String jobId;
+    private Long userId;
+    private String status;
+    private Map<String, Object> result; // 분석 결과 (DONE 상태에서만 존재)
+    private String message;             // 실패 사유 (FAILED 상태에서만 존재)
+}
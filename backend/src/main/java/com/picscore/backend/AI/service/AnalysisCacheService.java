@@ -0,0 +1,139 @@
+package com.picscore.backend.AI.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picscore.backend.common.utill.HashUtil;
+import com.picscore.backend.common.utill.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI 이미지 분석 결과 캐시
+ *
+ * 분석에 실제로 전달되는 리사이징 이미지의 SHA-256 해시와 프롬프트 버전을 키로 사용하므로,
+ * 같은 사진을 다시 분석하면 AI API를 호출하지 않고 이전 결과를 반환합니다.
+ * Redis를 공유 저장소로 사용하고, 그 앞에 서버 로컬 LRU 캐시를 두어 반복 조회 시 네트워크 왕복도 줄입니다.
+ *
+ * Redis 키 구조:
+ *     ai-analysis:{프롬프트 버전}:{이미지 해시}  분석 결과 JSON 문자열
+ */
+@Slf4j
+@Service
+public class AnalysisCacheService {
+
+    private static final String KEY_PREFIX = "ai-analysis:";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RedisUtil redisUtil;
+    private final HashUtil hashUtil;
+    private final long ttlSeconds;
+    private final long localTtlMillis;
+    private final Map<String, LocalEntry> localCache;
+
+
+    private record LocalEntry(Map<String, Object> value, long expiresAt) {
+    }
+
+
+    public AnalysisCacheService(
+            RedisUtil redisUtil, HashUtil hashUtil,
+            @Value("${ai.analysis.cache.ttl-seconds:604800}") long ttlSeconds,
+            @Value("${ai.analysis.cache.local-ttl-seconds:600}") long localTtlSeconds,
+            @Value("${ai.analysis.cache.local-max-entries:1000}") int localMaxEntries) {
+        this.redisUtil = redisUtil;
+        this.hashUtil = hashUtil;
+        this.ttlSeconds = ttlSeconds;
+        this.localTtlMillis = localTtlSeconds * 1000;
+        // 접근 순서 기반 LRU, 최대 개수를 넘으면 가장 오래 사용하지 않은 항목 제거
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * 분석 대상 이미지와 프롬프트 버전으로 캐시 키를 생성합니다.
+     *
+     * @param imageBytes AI에 전달되는 이미지 바이트
+     * @param promptVersion 프롬프트 버전
+     * @return 캐시 키
+     */
+    public String buildKey(
+            byte[] imageBytes, String promptVersion) {
+
+        return KEY_PREFIX + promptVersion + ":" + hashUtil.sha256Hex(imageBytes);
+    }
+
+
+    /**
+     * 캐시된 분석 결과를 조회합니다. 로컬 캐시를 먼저 확인하고, 없으면 Redis에서 조회해 로컬 캐시에 채웁니다.
+     *
+     * @param key 캐시 키
+     * @return 분석 결과, 없으면 null
+     */
+    public Map<String, Object> get(
+            String key) {
+
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > System.currentTimeMillis()) {
+                    return entry.value();
+                }
+                localCache.remove(key);
+            }
+        }
+
+        try {
+            String json = redisUtil.getString(key);
+            if (json == null) {
+                return null;
+            }
+
+            Map<String, Object> value = objectMapper.readValue(json, new TypeReference<>() {});
+            putLocal(key, value);
+            return value;
+        } catch (Exception e) {
+            // 캐시 장애는 분석 자체를 막지 않음
+            log.warn("AI 분석 캐시 조회 실패 ({}): {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+
+    /**
+     * 분석 결과를 Redis와 로컬 캐시에 저장합니다.
+     *
+     * @param key 캐시 키
+     * @param value 분석 결과
+     */
+    public void put(
+            String key, Map<String, Object> value) {
+
+        try {
+            redisUtil.setString(key, objectMapper.writeValueAsString(value), ttlSeconds);
+        } catch (Exception e) {
+            log.warn("AI 분석 캐시 저장 실패 ({}): {}", key, e.getMessage());
+        }
+        putLocal(key, value);
+    }
+
+
+    /**
+     * 로컬 캐시에 값을 저장합니다.
+     */
+    private void putLocal(
+            String key, Map<String, Object> value) {
+
+        synchronized (localCache) {
+            localCache.put(key, new LocalEntry(value, System.currentTimeMillis() + localTtlMillis));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.picscore.backend.AI.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picscore.backend.AI.model.dto.AnalysisJob;
+import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.model.response.BaseResponse;
+import com.picscore.backend.common.service.NotificationService;
+import com.picscore.backend.common.utill.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * AI 이미지 분석을 비동기 작업으로 실행하는 서비스
+ *
+ * 요청 즉시 작업 ID를 반환하고, 분석은 전용 스레드 풀(analysisExecutor)에서 수행합니다.
+ * 결과는 Redis에 저장되어 폴링으로 조회할 수 있으며, 완료 시 SSE "analysis" 이벤트로도 전달됩니다.
+ *
+ * Redis 키 구조:
+ *     ai-analysis-job:{jobId}  작업 상태 JSON 문자열
+ */
+@Slf4j
+@Service
+public class AnalysisJobService {
+
+    private static final String KEY_PREFIX = "ai-analysis-job:";
+    private static final String EVENT_NAME = "analysis";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final OpenAiImageService openAiImageService;
+    private final NotificationService notificationService;
+    private final RedisUtil redisUtil;
+    private final ThreadPoolTaskExecutor analysisExecutor;
+
+    @Value("${ai.analysis.job-ttl-seconds:3600}")
+    private long jobTtlSeconds;
+
+    public AnalysisJobService(
+            OpenAiImageService openAiImageService, NotificationService notificationService, RedisUtil redisUtil,
+            @Qualifier("analysisExecutor") ThreadPoolTaskExecutor analysisExecutor) {
+        this.openAiImageService = openAiImageService;
+        this.notificationService = notificationService;
+        this.redisUtil = redisUtil;
+        this.analysisExecutor = analysisExecutor;
+    }
+
+
+    /**
+     * 분석 작업을 등록하고 작업 ID를 반환합니다.
+     *
+     * @param userId 요청한 사용자 ID
+     * @param imageUrl 분석할 이미지 URL
+     * @return 등록된 작업 (PENDING 상태)
+     */
+    public AnalysisJob submit(
+            Long userId, String imageUrl) {
+
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), userId, AnalysisJob.PENDING, null, null);
+        save(job);
+
+        try {
+            analysisExecutor.execute(() -> run(job, imageUrl));
+        } catch (TaskRejectedException e) {
+            redisUtil.delete(KEY_PREFIX + job.getJobId());
+            throw new CustomException(HttpStatus.TOO_MANY_REQUESTS, "분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return job;
+    }
+
+
+    /**
+     * 작업 상태를 조회합니다.
+     *
+     * @param userId 요청한 사용자 ID
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    public AnalysisJob getJob(
+            Long userId, String jobId) {
+
+        String json = redisUtil.getString(KEY_PREFIX + jobId);
+        if (json == null) {
+            throw new CustomException(HttpStatus.NOT_FOUND, "분석 작업을 찾을 수 없습니다.");
+        }
+
+        AnalysisJob job;
+        try {
+            job = objectMapper.readValue(json, AnalysisJob.class);
+        } catch (Exception e) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "분석 작업 조회 실패: " + e.getMessage());
+        }
+
+        if (!job.getUserId().equals(userId)) {
+            throw new CustomException(HttpStatus.FORBIDDEN, "분석 작업 조회 권한이 없습니다.");
+        }
+
+        return job;
+    }
+
+
+    /**
+     * 분석을 수행하고 결과를 저장한 뒤 사용자에게 완료 이벤트를 전송합니다.
+     *
+     * @param job 작업
+     * @param imageUrl 분석할 이미지 URL
+     */
+    private void run(
+            AnalysisJob job, String imageUrl) {
+
+        AnalysisJob completed;
+        try {
+            ResponseEntity<BaseResponse<Map<String, Object>>> response = openAiImageService.analyzeImage(imageUrl);
+            BaseResponse<Map<String, Object>> body = response.getBody();
+
+            if (response.getStatusCode().is2xxSuccessful() && body != null && body.getData() != null) {
+                completed = new AnalysisJob(job.getJobId(), job.getUserId(), AnalysisJob.DONE, body.getData(), null);
+            } else {
+                String message = body != null ? body.getMessage() : "분석 실패";
+                completed = new AnalysisJob(job.getJobId(), job.getUserId(), AnalysisJob.FAILED, null, message);
+            }
+        } catch (Exception e) {
+            log.warn("AI 분석 작업 실패 (작업 ID: {}): {}", job.getJobId(), e.getMessage());
+            completed = new AnalysisJob(job.getJobId(), job.getUserId(), AnalysisJob.FAILED, null, e.getMessage());
+        }
+
+        save(completed);
+        notificationService.sendEvent(completed.getUserId(), EVENT_NAME, completed);
+    }
+
+
+    /**
+     * 작업 상태를 Redis에 저장합니다.
+     */
+    private void save(
+            AnalysisJob job) {
+
+        try {
+            redisUtil.setString(KEY_PREFIX + job.getJobId(), objectMapper.writeValueAsString(job), jobTtlSeconds);
+        } catch (Exception e) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "분석 작업 저장 실패: " + e.getMessage());
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.picscore.backend.common.exception.CustomException;
 import com.picscore.backend.common.model.response.BaseResponse;
+import com.picscore.backend.common.resilience.AdaptiveBulkhead;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -22,19 +24,23 @@ import java.util.regex.Pattern;
  *
  * 기능:
  *     원본 이미지를 리사이징
- *     리사이징된 이미지를 S3에 업로드
- *     리사이징된 이미지 URL을 LAVA API에 POST 요청
+ *     리사이징된 이미지를 S3에 업로드하여 URL로 변환 (AI 서버는 http(s) URL만 받으므로 data URL을 사용하지 않음)
+ *     리사이징된 이미지 참조를 LAVA API에 POST 요청
  *     응답을 Map으로 변환하여 반환
+ *     업로드한 리사이징 이미지는 요청이 끝나면 삭제
  */
 @Service
 @RequiredArgsConstructor
 public class LavaImageService {
 
+    @Qualifier("lavaRestTemplate")
     private final RestTemplate restTemplate;
     private final S3Client s3Client;
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
     private final OpenAiImageService openAiImageService;
+    @Qualifier("lavaBulkhead")
+    private final AdaptiveBulkhead lavaBulkhead;
 
 
     /**
@@ -50,10 +56,10 @@ public class LavaImageService {
         // ✅ 1. 원본 이미지 다운로드 후 리사이징
         byte[] resizedImage = openAiImageService.resizeImage(originalImageUrl, 500, 500);
 
-        // ✅ 2. 리사이징된 이미지를 S3에 업로드하고 새 URL 반환
+        // ✅ 2. 리사이징된 이미지를 S3에 업로드 (LAVA 서버의 image_url은 HttpUrl 검증이라 ai.analysis.image-transport와 무관하게 URL 사용)
         String resizedImageUrl = openAiImageService.uploadToS3(resizedImage);
 
-        // ✅ 3. OpenAI API 요청 JSON Body (리사이징된 이미지 URL 전송)
+        // ✅ 3. LAVA API 요청 JSON Body (리사이징된 이미지 전송)
         Map<String, Object> requestBody = Map.of("image_url",resizedImageUrl);
 
         // ✅ 요청 헤더 설정
@@ -65,12 +71,12 @@ public class LavaImageService {
 
         // ✅ OpenAI API에 요청 보내기 (예외 처리 강화)
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
+            ResponseEntity<JsonNode> response = lavaBulkhead.execute(() -> restTemplate.exchange(
                     "http://15.164.216.52:8000/api/v1/image/analyze",
                     HttpMethod.POST,
                     requestEntity,
                     JsonNode.class
-            );
+            ));
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 JsonNode jsonResponse = response.getBody();
@@ -83,9 +89,14 @@ public class LavaImageService {
             } else {
                 throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "LAVA API 요청 실패: HTTP " + response.getStatusCode());
             }
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("❌ LAVA API 요청 중 오류 발생: " + e.getMessage());
             throw new CustomException(HttpStatus.CONFLICT, e.getMessage());
+        } finally {
+            // ✅ 분석이 끝나면 업로드한 resized/ 임시 객체 삭제
+            openAiImageService.deleteUploadedImage(resizedImageUrl);
         }
     }
 }
@@ -3,19 +3,27 @@ package com.picscore.backend.AI.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.image.ImageProcessor;
+import com.picscore.backend.common.image.JpegImageEncoder;
 import com.picscore.backend.common.model.response.BaseResponse;
+import com.picscore.backend.common.resilience.AdaptiveBulkhead;
+import com.picscore.backend.common.resilience.RetryExecutor;
 import lombok.RequiredArgsConstructor;
 import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.net.HttpURLConnection;
@@ -29,15 +37,29 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class OpenAiImageService {
 
+    @Qualifier("openAiRestTemplate")
     private final RestTemplate restTemplate;
     private final S3Client s3Client;
+    private final ImageProcessor imageProcessor;
+    private final JpegImageEncoder jpegImageEncoder;
+    private final AnalysisCacheService analysisCacheService;
+    @Qualifier("openAiBulkhead")
+    private final AdaptiveBulkhead openAiBulkhead;
+    @Qualifier("openAiRetryExecutor")
+    private final RetryExecutor openAiRetryExecutor;
     @Value("${api.openai.api-key}")
     private String apiKey;
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    public ResponseEntity<BaseResponse<Map<String,Object>>> analyzeImage(String originalImageUrl, int retryCount) throws IOException {
-        final int maxRetry = 2; // 최대 2번 재시도
+    // 리사이징 이미지 전달 방식 (inline: base64 data URL, url: resized/ 업로드 후 공개 URL)
+    @Value("${ai.analysis.image-transport:inline}")
+    private String imageTransport;
+
+    // 분석 캐시 키에 포함되는 모델/프롬프트 버전 (프롬프트나 모델을 변경하면 함께 올려야 함)
+    private static final String PROMPT_VERSION = "gpt-4o-mini:v2";
+
+    public ResponseEntity<BaseResponse<Map<String,Object>>> analyzeImage(String originalImageUrl) throws IOException {
         final String role = "당신은 30년 경력의 사진작가이며 NIMA(Neural Image Assessment)모델을 학습하여 이미지를 분석하고 수치화 할 수 있습니다.";
 //        final String task = "출력을 반드시 한국어로 하세요. " +
 //                "1. 다음 여섯 가지 기준에 따라 이미지를 각각 100점 만점으로 평가하세요: " +
@@ -115,10 +137,17 @@ public class OpenAiImageService {
         // ✅ 1. 원본 이미지 다운로드 후 리사이징
         byte[] resizedImage = resizeImage(originalImageUrl, 500, 500);
 
-        // ✅ 2. 리사이징된 이미지를 S3에 업로드하고 새 URL 반환
-        String resizedImageUrl = uploadToS3(resizedImage);
+        // ✅ 같은 이미지의 분석 결과가 캐시되어 있다면 API를 호출하지 않고 반환
+        String cacheKey = analysisCacheService.buildKey(resizedImage, PROMPT_VERSION);
+        Map<String, Object> cached = analysisCacheService.get(cacheKey);
+        if (cached != null) {
+            return ResponseEntity.ok(BaseResponse.success("분석 완료", cached));
+        }
+
+        // ✅ 2. 리사이징된 이미지를 전달 방식에 맞게 변환 (inline: data URL, url: S3 업로드 후 URL)
+        String resizedImageUrl = toImageReference(resizedImage);
 
-        // ✅ 3. OpenAI API 요청 JSON Body (리사이징된 이미지 URL 전송)
+        // ✅ 3. OpenAI API 요청 JSON Body (리사이징된 이미지 전송)
         Map<String, Object> requestBody = Map.of(
                 "model", "gpt-4o-mini",
                 "messages", List.of(
@@ -139,54 +168,81 @@ public class OpenAiImageService {
         // ✅ 요청 엔티티 생성
         HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
 
-        // ✅ OpenAI API에 요청 보내기 (예외 처리 강화)
+        // ✅ OpenAI API에 요청 보내기 (준비된 요청으로 HTTP 호출만 재시도, 점수가 0점이면 재요청)
         try {
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    "https://api.openai.com/v1/chat/completions",
-                    requestEntity,
-                    String.class
+            ResponseEntity<BaseResponse<Map<String, Object>>> result = openAiRetryExecutor.execute(
+                    () -> parseGPTResponse(requestChatCompletion(requestEntity)),
+                    this::isZeroScore,
+                    this::isRetryable
             );
 
-            if (response.getStatusCode() == HttpStatus.OK) {
-                // ✅ 응답 파싱
-                ResponseEntity<BaseResponse<Map<String, Object>>> result = parseGPTResponse(response.getBody(), originalImageUrl, retryCount);
-                return result;
-            } else {
-                throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "OpenAI API 요청 실패: HTTP " + response.getStatusCode());
+            // ✅ 유효한 점수가 나온 결과만 캐시
+            Map<String, Object> analysis = result.getBody() != null ? result.getBody().getData() : null;
+            if (analysis != null && analysis.get("score") instanceof Integer score && score > 0) {
+                analysisCacheService.put(cacheKey, analysis);
             }
+            return result;
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("❌ OpenAI API 요청 중 오류 발생: " + e.getMessage());
             throw new CustomException(HttpStatus.CONFLICT, e.getMessage());
+        } finally {
+            // ✅ url 방식으로 올린 resized/ 임시 객체는 분석이 끝나면 삭제
+            deleteUploadedImage(resizedImageUrl);
+        }
+    }
+
+    // ✅ OpenAI Chat Completions API 호출 후 응답 본문 반환
+    private String requestChatCompletion(HttpEntity<Map<String, Object>> requestEntity) {
+        ResponseEntity<String> response = openAiBulkhead.execute(() -> restTemplate.postForEntity(
+                "https://api.openai.com/v1/chat/completions",
+                requestEntity,
+                String.class
+        ));
+
+        if (response.getStatusCode() != HttpStatus.OK) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "OpenAI API 요청 실패: HTTP " + response.getStatusCode());
         }
+        return response.getBody();
+    }
+
+    // ✅ 점수가 0점으로 파싱된 결과인지 확인 (재요청 대상)
+    private boolean isZeroScore(ResponseEntity<BaseResponse<Map<String, Object>>> result) {
+        Map<String, Object> analysis = result.getBody() != null ? result.getBody().getData() : null;
+        return analysis != null && Integer.valueOf(0).equals(analysis.get("score"));
+    }
+
+    // ✅ 일시적인 오류인지 확인 (연결/타임아웃, 5xx, 429만 재시도)
+    private boolean isRetryable(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
     }
 
 
     public byte[] resizeImage(String imageUrl, int width, int height) throws IOException {
-        // ✅ 안전한 이미지 다운로드
-        BufferedImage originalImage = downloadImage(imageUrl);
-
-        // 1️⃣ Thumbnails로 해상도 리사이징
-        BufferedImage resizedImage = Thumbnails.of(originalImage)
-                .size(width, height)
-                .outputQuality(0.8) // 품질 설정 (0.0 ~ 1.0)
-                .asBufferedImage();
-
-        // 2️⃣ PNG의 알파 채널을 제거하고 RGB로 변환 (JPG 저장 가능하도록)
-        BufferedImage convertedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = convertedImage.createGraphics();
-
-        // 3️⃣ 배경을 흰색으로 설정 (투명도 제거)
-        g2d.setColor(Color.WHITE);
-        g2d.fillRect(0, 0, width, height);
-
-        // 4️⃣ 리사이징된 이미지를 복사 (투명 부분은 흰색으로 채워짐)
-        g2d.drawImage(resizedImage, 0, 0, width, height, null);
-        g2d.dispose();
-
-        // ✅ 압축된 이미지 변환 (Byte 배열로 변환하여 API로 전달 가능)
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(convertedImage, "jpg", baos);
-        return baos.toByteArray();
+        // ✅ 안전한 이미지 다운로드 후 서브샘플링 디코딩 (원본 해상도 전체를 힙에 올리지 않음)
+        try (InputStream inputStream = openImageStream(imageUrl)) {
+            return imageProcessor.process(inputStream, Math.max(width, height), image -> {
+                // 1️⃣ 축소된 래스터에서 바로 지정 해상도로 리사이징
+                BufferedImage resizedImage = Thumbnails.of(image)
+                        .forceSize(width, height)
+                        .asBufferedImage();
+
+                // 2️⃣ 투명 영역은 흰색으로 채워 JPG로 인코딩 (Byte 배열로 변환하여 API로 전달 가능)
+                return jpegImageEncoder.encode(resizedImage);
+            });
+        }
+    }
+
+    // ✅ 리사이징된 이미지를 AI API에 전달할 이미지 참조로 변환
+    public String toImageReference(byte[] imageBytes) {
+        if ("url".equalsIgnoreCase(imageTransport)) {
+            return uploadToS3(imageBytes);
+        }
+        // 별도 업로드 없이 요청 본문에 이미지를 포함 (AI 서버가 다시 내려받는 왕복과 resized/ 객체가 남지 않음)
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(imageBytes);
     }
 
     // ✅ 리사이징된 이미지를 S3에 업로드하고 URL 반환
@@ -212,8 +268,40 @@ public class OpenAiImageService {
         }
     }
 
-    // ✅ 이미지 다운로드
-    public static BufferedImage downloadImage(String imageUrl) throws IOException {
+    // ✅ uploadToS3로 올린 임시 이미지를 삭제 (data URL 등 우리 버킷이 아닌 참조는 무시)
+    public void deleteUploadedImage(String imageReference) {
+        String bucketUrlPrefix = getFileUrl("");
+        if (imageReference == null || !imageReference.startsWith(bucketUrlPrefix)) {
+            return;
+        }
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(imageReference.substring(bucketUrlPrefix.length()))
+                    .build());
+        } catch (Exception e) {
+            // 분석 결과에는 영향이 없으므로 응답은 그대로 반환
+            System.err.println("❌ 임시 이미지 삭제 실패: " + e.getMessage());
+        }
+    }
+
+    // ✅ 이미지 스트림 열기 (호출자가 닫아야 함)
+    private InputStream openImageStream(String imageUrl) throws IOException {
+        // 우리 버킷의 이미지는 공개 URL 대신 S3Client로 직접 읽음
+        String bucketUrlPrefix = getFileUrl("");
+        if (imageUrl.startsWith(bucketUrlPrefix)) {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(imageUrl.substring(bucketUrlPrefix.length()))
+                    .build();
+            return s3Client.getObject(getObjectRequest);
+        }
+
+        return downloadImage(imageUrl);
+    }
+
+    // ✅ 외부 이미지 다운로드
+    private static InputStream downloadImage(String imageUrl) throws IOException {
         URL url = new URL(imageUrl);
         HttpURLConnection connection = (HttpURLConnection) url.openConnection();
 
@@ -229,9 +317,7 @@ public class OpenAiImageService {
             throw new IOException("Failed to download image: HTTP " + responseCode);
         }
 
-        try (InputStream inputStream = connection.getInputStream()) {
-            return ImageIO.read(inputStream);
-        }
+        return connection.getInputStream();
     }
 
     // ✅ 파일 URL 생성
@@ -242,7 +328,7 @@ public class OpenAiImageService {
                 fileName);
     }
 
-    public ResponseEntity<BaseResponse<Map<String, Object>>> parseGPTResponse(String gptApiResponse, String originalImageUrl, int retryCount) throws IOException {
+    public ResponseEntity<BaseResponse<Map<String, Object>>> parseGPTResponse(String gptApiResponse) {
         try {
             // JSON 파싱
             ObjectMapper objectMapper = new ObjectMapper();
@@ -280,13 +366,6 @@ public class OpenAiImageService {
                 avgScore = Math.round((float) totalScore / count);
             }
 
-            // ✅ "score"가 0점이면 재요청 실행
-            final int maxRetry = 2; // 최대 2번 재시도
-            if (avgScore == 0 && retryCount < maxRetry) {
-                System.out.println("⚠️ 점수가 0점으로 나왔습니다. API 재요청을 수행합니다. (재시도 횟수: " + (retryCount + 1) + ")");
-                return analyzeImage(originalImageUrl, retryCount + 1); // 재요청
-            }
-
             // ✅ 종합평가 파싱 추가
             Pattern summaryPattern = Pattern.compile("종합평가:\\s*(.+)");
             Matcher summaryMatcher = summaryPattern.matcher(content);
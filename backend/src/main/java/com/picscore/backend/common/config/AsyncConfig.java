@@ -0,0 +1,107 @@
+package com.picscore.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀을 정의하는 설정 클래스
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${photo.derivative.worker-threads:2}")
+    private int derivativeWorkerThreads;
+
+    @Value("${ai.analysis.worker-threads:4}")
+    private int analysisWorkerThreads;
+
+    @Value("${ai.analysis.queue-capacity:50}")
+    private int analysisQueueCapacity;
+
+    @Value("${photo.upload.worker-threads:8}")
+    private int uploadWorkerThreads;
+
+
+    /**
+     * 썸네일 등 파생 이미지 생성을 처리하는 스레드 풀
+     * 작업 대기열은 Redis에 있으므로 풀 내부 큐는 두지 않고, 여유 스레드가 있을 때만 작업을 가져옵니다.
+     *
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "derivativeExecutor")
+    public ThreadPoolTaskExecutor derivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(derivativeWorkerThreads);
+        executor.setMaxPoolSize(derivativeWorkerThreads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("derivative-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+
+    /**
+     * AI 이미지 분석 작업을 처리하는 스레드 풀
+     * 대기 작업 수를 제한하여 요청이 몰릴 때는 즉시 거절하고 서블릿 스레드를 점유하지 않습니다.
+     *
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "analysisExecutor")
+    public ThreadPoolTaskExecutor analysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysisWorkerThreads);
+        executor.setMaxPoolSize(analysisWorkerThreads);
+        executor.setQueueCapacity(analysisQueueCapacity);
+        executor.setThreadNamePrefix("analysis-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+
+    /**
+     * 외부 API 헤징 요청을 실행하는 스레드 풀
+     * 스레드가 모두 사용 중이면 헤징하지 않고 호출한 스레드에서 그대로 요청합니다.
+     *
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "hedgeExecutor")
+    public ThreadPoolTaskExecutor hedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysisWorkerThreads);
+        executor.setMaxPoolSize(analysisWorkerThreads * 2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("hedge-");
+        executor.initialize();
+
+        return executor;
+    }
+
+
+    /**
+     * 스트리밍 업로드의 S3 파트 전송을 처리하는 스레드 풀
+     * 스레드가 모두 사용 중이면 요청 스레드에서 직접 전송합니다.
+     *
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "uploadExecutor")
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadWorkerThreads);
+        executor.setMaxPoolSize(uploadWorkerThreads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,67 @@
+package com.picscore.backend.common.config;
+
+import com.picscore.backend.common.resilience.AdaptiveBulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API별 적응형 벌크헤드를 정의하는 설정 클래스
+ * 한도 설정은 bulkhead.{업스트림}.* 값을 사용합니다.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadConfig(
+            MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * OpenAI API 호출용 벌크헤드
+     *
+     * @return AdaptiveBulkhead 객체
+     */
+    @Bean
+    public AdaptiveBulkhead openAiBulkhead(
+            @Value("${bulkhead.openai.initial-limit:10}") int initialLimit,
+            @Value("${bulkhead.openai.max-limit:20}") int maxLimit,
+            @Value("${bulkhead.openai.target-latency-ms:20000}") long targetLatencyMs) {
+
+        return new AdaptiveBulkhead("openai", initialLimit, 1, maxLimit, targetLatencyMs, 0.9, meterRegistry);
+    }
+
+
+    /**
+     * Azure Computer Vision API 호출용 벌크헤드
+     *
+     * @return AdaptiveBulkhead 객체
+     */
+    @Bean
+    public AdaptiveBulkhead visionBulkhead(
+            @Value("${bulkhead.azure-vision.initial-limit:10}") int initialLimit,
+            @Value("${bulkhead.azure-vision.max-limit:20}") int maxLimit,
+            @Value("${bulkhead.azure-vision.target-latency-ms:3000}") long targetLatencyMs) {
+
+        return new AdaptiveBulkhead("azure-vision", initialLimit, 1, maxLimit, targetLatencyMs, 0.9, meterRegistry);
+    }
+
+
+    /**
+     * LAVA 분석 서버 호출용 벌크헤드
+     *
+     * @return AdaptiveBulkhead 객체
+     */
+    @Bean
+    public AdaptiveBulkhead lavaBulkhead(
+            @Value("${bulkhead.lava.initial-limit:5}") int initialLimit,
+            @Value("${bulkhead.lava.max-limit:10}") int maxLimit,
+            @Value("${bulkhead.lava.target-latency-ms:15000}") long targetLatencyMs) {
+
+        return new AdaptiveBulkhead("lava", initialLimit, 1, maxLimit, targetLatencyMs, 0.9, meterRegistry);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -62,5 +63,17 @@ public class RedisConfig {
 
         return template;
     }
-}
 
+
+    /**
+     * StringRedisTemplate Bean 정의.
+     * Set, Hash, Lua 스크립트 등 값을 문자열 그대로 다뤄야 하는 연산에 사용합니다.
+     *
+     * @param redisConnectionFactory Redis 연결 팩토리
+     * @return StringRedisTemplate 객체
+     */
+    @Bean(name = "stringRedisTemplate")
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+}
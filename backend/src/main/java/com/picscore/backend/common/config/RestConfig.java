@@ -1,25 +1,124 @@
 package com.picscore.backend.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * RestTemplate 관련 설정을 정의하는 설정 클래스
+ *
+ * 외부 API(OpenAI, Azure Vision, LAVA)마다 별도의 커넥션 풀을 두어
+ * TLS 연결을 재사용하고, 한 업스트림이 느려져도 다른 업스트림의 연결을 잠식하지 않도록 합니다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 지표로 Prometheus에 노출됩니다.
  */
 @Configuration
 public class RestConfig {
 
+    private final MeterRegistry meterRegistry;
+
+    public RestConfig(
+            MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
 
     /**
-     * RestTemplate 빈을 생성하여 스프링 컨테이너에 등록
-     * 외부 API 호출 시 사용되는 HTTP 통신 도구
+     * OpenAI API 호출용 RestTemplate
      *
      * @return RestTemplate 객체
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate openAiRestTemplate(
+            @Value("${http.client.openai.max-connections:20}") int maxConnections,
+            @Value("${http.client.openai.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.client.openai.read-timeout-ms:60000}") long readTimeoutMs) {
+
+        return createPooledRestTemplate("openai", maxConnections, connectTimeoutMs, readTimeoutMs);
     }
-}
 
+
+    /**
+     * Azure Computer Vision API 호출용 RestTemplate
+     *
+     * @return RestTemplate 객체
+     */
+    @Bean
+    public RestTemplate visionRestTemplate(
+            @Value("${http.client.azure-vision.max-connections:20}") int maxConnections,
+            @Value("${http.client.azure-vision.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.client.azure-vision.read-timeout-ms:10000}") long readTimeoutMs) {
+
+        return createPooledRestTemplate("azure-vision", maxConnections, connectTimeoutMs, readTimeoutMs);
+    }
+
+
+    /**
+     * LAVA 분석 서버 호출용 RestTemplate
+     *
+     * @return RestTemplate 객체
+     */
+    @Bean
+    public RestTemplate lavaRestTemplate(
+            @Value("${http.client.lava.max-connections:10}") int maxConnections,
+            @Value("${http.client.lava.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.client.lava.read-timeout-ms:30000}") long readTimeoutMs) {
+
+        return createPooledRestTemplate("lava", maxConnections, connectTimeoutMs, readTimeoutMs);
+    }
+
+
+    /**
+     * 커넥션 풀과 타임아웃이 설정된 RestTemplate을 생성합니다.
+     * 풀에서 연결을 기다리는 시간도 연결 타임아웃으로 제한하여, 풀이 고갈되면 요청 스레드를 오래 붙잡지 않습니다.
+     *
+     * @param name 풀 이름 (지표 태그)
+     * @param maxConnections 최대 연결 수
+     * @param connectTimeoutMs 연결 및 풀 대기 타임아웃(ms)
+     * @param readTimeoutMs 응답 대기 타임아웃(ms)
+     * @return RestTemplate 객체
+     */
+    private RestTemplate createPooledRestTemplate(
+            String name, int maxConnections, long connectTimeoutMs, long readTimeoutMs) {
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build();
+
+        // 업스트림별로 풀을 분리하므로 라우트당 최대 연결 수와 전체 최대 연결 수를 같게 설정
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
@@ -0,0 +1,43 @@
+package com.picscore.backend.common.config;
+
+import com.picscore.backend.common.resilience.RetryExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 외부 API별 재시도 실행기를 정의하는 설정 클래스
+ * 재시도 설정은 retry.{업스트림}.* 값을 사용합니다.
+ */
+@Configuration
+public class RetryConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    public RetryConfig(
+            MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * OpenAI API 호출용 재시도 실행기
+     * 헤징은 호출 비용이 두 배가 될 수 있으므로 기본값은 꺼져 있습니다. (hedge-percentile: 0)
+     *
+     * @return RetryExecutor 객체
+     */
+    @Bean
+    public RetryExecutor openAiRetryExecutor(
+            @Qualifier("hedgeExecutor") ThreadPoolTaskExecutor hedgeExecutor,
+            @Value("${retry.openai.max-attempts:3}") int maxAttempts,
+            @Value("${retry.openai.base-delay-ms:500}") long baseDelayMs,
+            @Value("${retry.openai.max-delay-ms:5000}") long maxDelayMs,
+            @Value("${retry.openai.hedge-percentile:0}") double hedgePercentile) {
+
+        return new RetryExecutor(
+                "openai", maxAttempts, baseDelayMs, maxDelayMs, hedgePercentile, hedgeExecutor, meterRegistry);
+    }
+}
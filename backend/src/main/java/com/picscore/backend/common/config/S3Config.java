@@ -7,6 +7,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 /**
  * AWS S3와의 연동을 위한 설정을 정의하는 설정 클래스
@@ -41,4 +42,21 @@ public class S3Config {
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
                 .build();
     }
+
+
+    /**
+     * S3Presigner 빈을 생성하여 스프링 컨테이너에 등록
+     * 클라이언트가 백엔드를 거치지 않고 S3에 직접 업로드할 수 있도록 서명된 URL을 생성
+     *
+     * @return S3Presigner 객체
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .build();
+    }
 }
@@ -0,0 +1,12 @@
+package com.picscore.backend.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 배치 작업(@Scheduled)을 활성화하는 설정 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulerConfig {
+}
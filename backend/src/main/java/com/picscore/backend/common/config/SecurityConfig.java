@@ -6,11 +6,13 @@ import com.picscore.backend.common.handler.CustomSuccessHandler;
 import com.picscore.backend.common.jwt.CustomLogoutFilter;
 import com.picscore.backend.common.jwt.JWTFilter;
 import com.picscore.backend.common.jwt.JWTUtil;
+import com.picscore.backend.user.model.entity.User;
 import com.picscore.backend.user.repository.UserRepository;
 import com.picscore.backend.user.service.OAuthService;
 import com.picscore.backend.common.service.CustomOAuth2UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,6 +26,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
@@ -41,6 +45,9 @@ public class SecurityConfig {
     private final JWTUtil jwtUtil;
     private final RedisUtil redisUtil;
 
+    @Value("${security.admin-user-ids:}")
+    private List<Long> adminUserIds;
+
 
     /**
      * Spring Security 필터 체인을 구성합니다.
@@ -93,7 +100,7 @@ public class SecurityConfig {
 
         // JWT 필터 추가
         http
-                .addFilterAfter(new JWTFilter(jwtUtil, oAuthService, objectMapper), OAuth2LoginAuthenticationFilter.class);
+                .addFilterAfter(new JWTFilter(jwtUtil, oAuthService, objectMapper, findAdminSocialIds()), OAuth2LoginAuthenticationFilter.class);
 
         http
                 .addFilterBefore(new CustomLogoutFilter(jwtUtil, redisUtil, userRepository), LogoutFilter.class);
@@ -109,9 +116,10 @@ public class SecurityConfig {
         // URL 별 접근 권한 설정
         http
                 .authorizeHttpRequests((auth) -> auth
-                        .requestMatchers("/", "/api/v1/photo", "/api/v1/image/analyze", "/actuator/**").permitAll()
+                        .requestMatchers("/", "/api/v1/photo", "/api/v1/photo/stream", "/api/v1/photo/presigned", "/api/v1/photo/presigned/complete", "/api/v1/image/analyze", "/actuator/**").permitAll()
                         .requestMatchers("/api/v1/user/google", "/api/v1/user/kakao").permitAll()
                         .requestMatchers("/api/v1/photo/{photoId}").permitAll()
+                        .requestMatchers("/api/v1/list").hasRole("ADMIN")
                         .anyRequest().authenticated());
 
         // 세션 관리 정책 설정
@@ -121,5 +129,22 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
 
+
+    /**
+     * 설정된 관리자 사용자 ID를 토큰에 담긴 소셜 ID로 변환합니다.
+     * JWT에는 사용자 ID가 없으므로 시작 시 한 번 조회하여, 요청마다 DB를 조회하지 않습니다.
+     *
+     * @return 관리자 소셜 ID 목록
+     */
+    private Set<String> findAdminSocialIds() {
+
+        if (adminUserIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return userRepository.findAllById(adminUserIds).stream()
+                .map(User::getSocialId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,36 @@
+package com.picscore.backend.common.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * 파생 이미지를 특정 포맷으로 인코딩하는 인코더 SPI
+ * 새로운 포맷(WebP, AVIF 등)은 이 인터페이스를 구현한 빈을 등록한 뒤
+ * photo.derivative.format 설정값을 해당 포맷 이름으로 바꾸어 적용합니다.
+ */
+public interface ImageEncoder {
+
+
+    /**
+     * 설정에서 인코더를 선택할 때 사용하는 포맷 이름 (예: jpg, webp)
+     */
+    String getFormat();
+
+
+    /**
+     * 업로드 시 사용할 Content-Type (예: image/jpeg)
+     */
+    String getContentType();
+
+
+    /**
+     * 저장 파일명에 붙일 확장자 (점 제외)
+     */
+    String getExtension();
+
+
+    /**
+     * 이미지를 인코딩하여 바이트 배열로 반환
+     */
+    byte[] encode(BufferedImage image) throws IOException;
+}
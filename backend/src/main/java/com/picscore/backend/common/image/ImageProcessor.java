@@ -0,0 +1,127 @@
+package com.picscore.backend.common.image;
+
+import com.picscore.backend.common.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 업로드 이미지를 메모리 사용량을 제한하며 디코딩하는 공용 이미지 처리 컴포넌트
+ *
+ * 원본 해상도 전체를 힙에 올리지 않도록 ImageReadParam의 소스 서브샘플링으로
+ * 필요한 크기에 가까운 래스터만 디코딩하고, 동시에 처리 중인 이미지 수를 힙 크기에 비례해 제한합니다.
+ * 디코딩된 래스터는 콜백 안에서만 유효하며, 하나의 래스터에서 필요한 파생 이미지를 모두 생성합니다.
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private final Semaphore permits;
+
+
+    /**
+     * 이미지 하나를 처리하는 작업
+     */
+    @FunctionalInterface
+    public interface ImageTask<T> {
+        T apply(BufferedImage image) throws IOException;
+    }
+
+
+    public ImageProcessor(
+            @Value("${image.processing.memory-per-image-mb:64}") long memoryPerImageMb) {
+
+        long maxMemoryMb = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+        // 힙의 절반까지만 이미지 래스터에 사용
+        int maxConcurrent = (int) Math.max(1, maxMemoryMb / 2 / memoryPerImageMb);
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        log.info("이미지 처리 동시 실행 수: {} (최대 힙 {}MB, 이미지당 {}MB)", maxConcurrent, maxMemoryMb, memoryPerImageMb);
+    }
+
+
+    /**
+     * 이미지를 긴 변이 maxDimension 이상인 범위에서 가장 작게 서브샘플링하여 디코딩한 뒤 작업을 실행합니다.
+     * EXIF 방향 정보가 있으면 회전을 적용한 래스터를 전달합니다.
+     *
+     * @param inputStream 원본 이미지 스트림 (호출자가 닫아야 함)
+     * @param maxDimension 필요한 최대 변 길이(px)
+     * @param task 디코딩된 이미지로 수행할 작업
+     * @return 작업 결과
+     * @throws IOException 이미지 읽기 또는 작업 중 오류
+     */
+    public <T> T process(
+            InputStream inputStream, int maxDimension, ImageTask<T> task) throws IOException {
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 처리 대기 중 인터럽트가 발생했습니다.", e);
+        }
+
+        try {
+            BufferedImage image = decode(inputStream, maxDimension);
+            return task.apply(image);
+        } finally {
+            permits.release();
+        }
+    }
+
+
+    /**
+     * 소스 서브샘플링을 적용하여 이미지를 디코딩합니다.
+     *
+     * @param inputStream 원본 이미지 스트림
+     * @param maxDimension 필요한 최대 변 길이(px)
+     * @return 디코딩된 이미지
+     * @throws IOException 이미지 읽기 중 오류
+     */
+    private BufferedImage decode(
+            InputStream inputStream, int maxDimension) throws IOException {
+
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, false);
+
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                // 서브샘플링 후에도 긴 변이 maxDimension 이상이 되도록 정수 배율 선택
+                int subsampling = Math.max(1, longSide / maxDimension);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                BufferedImage image = reader.read(0, param);
+
+                Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+                if (orientation != null && orientation != Orientation.TOP_LEFT) {
+                    image = ExifFilterUtils.getFilterForOrientation(orientation).apply(image);
+                }
+
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
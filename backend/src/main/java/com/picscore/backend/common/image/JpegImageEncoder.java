@@ -0,0 +1,97 @@
+package com.picscore.backend.common.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * ImageIO 기본 JPEG 코덱을 사용하는 인코더
+ */
+@Component
+public class JpegImageEncoder implements ImageEncoder {
+
+    @Value("${photo.derivative.jpeg-quality:0.85}")
+    private float quality;
+
+
+    @Override
+    public String getFormat() {
+        return "jpg";
+    }
+
+
+    @Override
+    public String getContentType() {
+        return "image/jpeg";
+    }
+
+
+    @Override
+    public String getExtension() {
+        return "jpg";
+    }
+
+
+    /**
+     * 이미지를 지정된 품질의 JPEG으로 인코딩합니다.
+     * JPEG은 알파 채널을 지원하지 않으므로 투명 영역은 흰색 배경으로 채웁니다.
+     *
+     * @param image 인코딩할 이미지
+     * @return JPEG 바이트 배열
+     * @throws IOException 인코딩 중 오류
+     */
+    @Override
+    public byte[] encode(
+            BufferedImage image) throws IOException {
+
+        BufferedImage rgbImage = toRgb(image);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(rgbImage, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return outputStream.toByteArray();
+    }
+
+
+    /**
+     * 알파 채널이 있는 이미지를 흰색 배경의 RGB 이미지로 변환합니다.
+     *
+     * @param image 원본 이미지
+     * @return RGB 이미지
+     */
+    private BufferedImage toRgb(
+            BufferedImage image) {
+
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = converted.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+
+        return converted;
+    }
+}
@@ -22,11 +22,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * JWT 인증 필터
  * - OncePerRequestFilter를 상속하여 요청마다 한 번만 필터 실행
  * - 특정 URL 및 메서드에 대해선 필터 제외 처리
+ * - 관리자로 설정된 사용자(security.admin-user-ids)는 ROLE_ADMIN으로 인증
  */
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
@@ -34,6 +36,7 @@ public class JWTFilter extends OncePerRequestFilter {
     private final JWTUtil jwtUtil;
     private final OAuthService oAuthService;
     private final ObjectMapper objectMapper;
+    private final Set<String> adminSocialIds;
 
 
     /**
@@ -122,6 +125,11 @@ public class JWTFilter extends OncePerRequestFilter {
             String nickName = jwtUtil.getNickName(accessToken);
             String role = jwtUtil.getRole(accessToken);
 
+            // 관리자로 설정된 사용자는 ADMIN 권한 부여
+            if (adminSocialIds.contains(socialId)) {
+                role = "ROLE_ADMIN";
+            }
+
             // UserDto 생성 및 설정
             UserDto userDto = new UserDto(
                     socialId,
@@ -0,0 +1,111 @@
+package com.picscore.backend.common.queue;
+
+import com.picscore.backend.common.utill.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 작업 대기열을 여러 서버 인스턴스가 함께 처리할 때 인스턴스별 processing List를 관리하는 컴포넌트
+ *
+ * 인스턴스마다 고유 ID를 만들고 worker-lease:{ID} 키를 TTL과 함께 주기적으로 갱신합니다.
+ * 각 인스턴스는 꺼낸 작업을 자신의 processing List({prefix}:{ID})에만 보관하고, 대기열별 등록 Set에 자신의 ID를 기록합니다.
+ * 임대가 만료된(중단된) 인스턴스의 processing List만 대기열로 되돌리므로, 다른 인스턴스가 처리 중인 작업은 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkerLease {
+
+    private static final String LEASE_KEY_PREFIX = "worker-lease:";
+
+    // 등록 Set에 자신의 ID를 추가
+    private static final RedisScript<Long> REGISTER_SCRIPT = RedisScript.of("""
+            return redis.call('SADD', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    // 임대가 만료된 인스턴스의 processing List를 대기열로 옮기고 등록 Set에서 제거, 옮긴 개수 반환
+    private static final RedisScript<Long> RECOVER_SCRIPT = RedisScript.of("""
+            local moved = 0
+            for _, id in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+                if id ~= ARGV[3] and redis.call('EXISTS', ARGV[1] .. id) == 0 then
+                    local processing = ARGV[2] .. id
+                    while redis.call('RPOPLPUSH', processing, KEYS[2]) do
+                        moved = moved + 1
+                    end
+                    redis.call('SREM', KEYS[1], id)
+                end
+            end
+            return moved
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${worker.lease-ttl-seconds:60}")
+    private long leaseTtlSeconds;
+
+
+    /**
+     * 이 인스턴스의 processing List 키를 반환합니다.
+     *
+     * @param processingPrefix processing List 키 접두사 (예: photo-derivative:processing)
+     * @return {prefix}:{인스턴스 ID}
+     */
+    public String processingKey(
+            String processingPrefix) {
+
+        return processingPrefix + ":" + instanceId;
+    }
+
+
+    /**
+     * 이 인스턴스를 대기열의 처리 인스턴스로 등록하고 임대를 갱신합니다.
+     *
+     * @param registryKey 대기열별 처리 인스턴스 등록 Set 키
+     */
+    public void register(
+            String registryKey) {
+
+        renew();
+        redisUtil.executeScript(REGISTER_SCRIPT, List.of(registryKey), instanceId);
+    }
+
+
+    /**
+     * 임대가 만료된 인스턴스가 처리하다 남긴 작업을 대기열로 되돌립니다.
+     *
+     * @param registryKey 대기열별 처리 인스턴스 등록 Set 키
+     * @param processingPrefix processing List 키 접두사
+     * @param queueKey 되돌릴 대기열 키
+     * @return 되돌린 작업 수
+     */
+    public long recoverExpired(
+            String registryKey, String processingPrefix, String queueKey) {
+
+        Long moved = redisUtil.executeScript(RECOVER_SCRIPT, List.of(registryKey, queueKey),
+                LEASE_KEY_PREFIX, processingPrefix + ":", instanceId);
+        return moved == null ? 0 : moved;
+    }
+
+
+    /**
+     * 이 인스턴스의 임대를 갱신합니다. TTL 안에 갱신되지 않으면 다른 인스턴스가 작업을 회수합니다.
+     */
+    @Scheduled(fixedDelayString = "${worker.lease-renew-interval-ms:15000}")
+    public void renew() {
+
+        try {
+            redisUtil.setString(LEASE_KEY_PREFIX + instanceId, "1", leaseTtlSeconds);
+        } catch (Exception e) {
+            log.error("작업 임대 갱신 실패 (instance={}): {}", instanceId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.picscore.backend.common.resilience;
+
+import com.picscore.backend.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API별 동시 호출 수를 제한하는 적응형 벌크헤드
+ *
+ * AIMD(가산 증가, 곱셈 감소) 방식으로 동시 호출 한도를 조정합니다.
+ *     호출이 목표 지연 시간 안에 성공하면 한도를 1/limit씩 늘려 한도만큼 성공할 때마다 약 1 증가
+ *     호출이 목표 지연 시간을 넘기거나 업스트림 과부하로 실패하면(시간 초과/연결 오류, 5xx, 429) 한도를 backoffRatio 배로 줄임
+ *     호출자 요청 문제로 인한 4xx 등 그 밖의 실패는 한도를 조정하지 않음
+ * 한도를 초과한 요청은 대기하지 않고 즉시 503으로 거절하여 서블릿 스레드가 업스트림 지연에 묶이지 않도록 합니다.
+ *
+ * 지표 (name 태그로 업스트림 구분):
+ *     bulkhead.limit      현재 동시 호출 한도
+ *     bulkhead.in.flight  사용 중인 허가 수
+ *     bulkhead.rejected   거절된 호출 수
+ *     bulkhead.calls      호출 지연 시간 (outcome 태그: success, slow, overload, error)
+ */
+public class AdaptiveBulkhead {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private final Counter rejectedCounter;
+    private final Timer successTimer;
+    private final Timer slowTimer;
+    private final Timer overloadTimer;
+    private final Timer errorTimer;
+
+
+    public AdaptiveBulkhead(
+            String name, int initialLimit, int minLimit, int maxLimit,
+            long targetLatencyMs, double backoffRatio, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+
+        Gauge.builder("bulkhead.limit", this, bulkhead -> bulkhead.limit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.in.flight", inFlight, AtomicInteger::get)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.successTimer = callTimer("success", meterRegistry);
+        this.slowTimer = callTimer("slow", meterRegistry);
+        this.overloadTimer = callTimer("overload", meterRegistry);
+        this.errorTimer = callTimer("error", meterRegistry);
+    }
+
+
+    /**
+     * 허가를 얻은 경우에만 호출을 실행합니다.
+     *
+     * @param call 외부 API 호출
+     * @return 호출 결과
+     * @throws CustomException 동시 호출 한도를 초과한 경우 (503)
+     */
+    public <T> T execute(
+            Supplier<T> call) {
+
+        if (!tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "외부 분석 서버(" + name + ") 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            long elapsed = System.nanoTime() - start;
+            inFlight.decrementAndGet();
+            boolean slow = elapsed > targetLatencyNanos;
+            adjustLimit(!slow);
+            (slow ? slowTimer : successTimer).record(elapsed, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException | Error e) {
+            long elapsed = System.nanoTime() - start;
+            inFlight.decrementAndGet();
+            if (isOverload(e)) {
+                adjustLimit(false);
+                overloadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                errorTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            throw e;
+        }
+    }
+
+
+    /**
+     * 업스트림 과부하를 나타내는 실패인지 확인합니다.
+     * 시간 초과/연결 오류(ResourceAccessException)와 5xx, 429 응답만 해당하며, 그 밖의 4xx는 호출자 요청 문제로 봅니다.
+     */
+    private boolean isOverload(
+            Throwable e) {
+
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof RestClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return false;
+    }
+
+
+    private Timer callTimer(
+            String outcome, MeterRegistry meterRegistry) {
+
+        return Timer.builder("bulkhead.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 현재 한도 안에서 허가를 얻습니다.
+     */
+    private boolean tryAcquire() {
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * 호출 결과에 따라 동시 호출 한도를 조정합니다.
+     *
+     * @param healthy 목표 지연 시간 안에 성공했는지 여부 (false면 느린 성공 또는 과부하 실패)
+     */
+    private synchronized void adjustLimit(
+            boolean healthy) {
+
+        if (healthy) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } else {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        }
+    }
+}
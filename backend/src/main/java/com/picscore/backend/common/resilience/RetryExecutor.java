@@ -0,0 +1,262 @@
+package com.picscore.backend.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 준비된 요청을 재사용하여 외부 API 호출만 재시도하는 실행기
+ *
+ * 재시도 간격은 지수 백오프에 전체 지터(0 ~ 상한 사이 무작위)를 적용해 동시에 실패한 요청들이 한꺼번에 재시도하지 않도록 합니다.
+ * 헤징을 켜면, 최근 호출 지연 시간의 지정 백분위수를 넘을 때까지 응답이 없을 경우 같은 요청을 한 번 더 보내 먼저 끝난 결과를 사용합니다.
+ *
+ * 지표 (name 태그로 대상 구분):
+ *     retry.attempts  시도별 결과 (outcome 태그: success, retry_result, error, hedge)
+ *     retry.attempt   시도별 지연 시간
+ */
+@Slf4j
+public class RetryExecutor {
+
+    private static final int LATENCY_WINDOW = 100;
+
+    private final String name;
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final double hedgePercentile;
+    private final Executor hedgeExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 최근 호출 지연 시간(ms) 순환 버퍼 (헤징 기준 계산용)
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount = 0;
+    private int latencyIndex = 0;
+
+
+    /**
+     * @param name 지표 태그에 사용할 이름
+     * @param maxAttempts 최대 시도 횟수 (첫 시도 포함)
+     * @param baseDelayMs 첫 재시도 대기 상한(ms)
+     * @param maxDelayMs 재시도 대기 상한의 최대값(ms)
+     * @param hedgePercentile 헤징 기준 백분위수 (0 이하이면 헤징하지 않음, 예: 0.95)
+     * @param hedgeExecutor 헤징 요청을 실행할 스레드 풀
+     * @param meterRegistry 지표 등록 레지스트리
+     */
+    public RetryExecutor(
+            String name, int maxAttempts, long baseDelayMs, long maxDelayMs,
+            double hedgePercentile, Executor hedgeExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.hedgePercentile = hedgePercentile;
+        this.hedgeExecutor = hedgeExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * 호출을 실행하고, 재시도 대상 예외나 결과가 나오면 백오프 후 다시 호출합니다.
+     * 최대 시도 횟수 안에 만족스러운 결과를 얻지 못하면 마지막 결과를 반환하거나 마지막 예외를 던집니다.
+     *
+     * @param call 외부 API 호출 (준비된 요청을 그대로 다시 보낼 수 있어야 함)
+     * @param retryOnResult 결과를 보고 재시도할지 판단하는 조건
+     * @param retryOnException 예외를 보고 재시도할지 판단하는 조건
+     * @return 호출 결과
+     */
+    public <T> T execute(
+            Supplier<T> call, Predicate<T> retryOnResult, Predicate<RuntimeException> retryOnException) {
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= maxAttempts;
+            try {
+                T result = callWithHedge(call);
+
+                if (!lastAttempt && retryOnResult.test(result)) {
+                    record("retry_result");
+                    log.info("{} 호출 결과가 유효하지 않아 재시도합니다. (시도 {}/{})", name, attempt, maxAttempts);
+                } else {
+                    record("success");
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                record("error");
+                if (lastAttempt || !retryOnException.test(e)) {
+                    throw e;
+                }
+                log.info("{} 호출 실패로 재시도합니다. (시도 {}/{}): {}", name, attempt, maxAttempts, e.getMessage());
+            }
+
+            sleep(backoffDelay(attempt));
+        }
+    }
+
+
+    /**
+     * 호출을 한 번 실행합니다. 헤징이 켜져 있고 지연 기준을 넘기면 같은 요청을 한 번 더 보냅니다.
+     */
+    private <T> T callWithHedge(
+            Supplier<T> call) {
+
+        long hedgeDelayMs = hedgeDelayMs();
+        if (hedgeDelayMs <= 0) {
+            return timed(call);
+        }
+
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> timed(call), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            // 헤징용 스레드가 부족하면 현재 스레드에서 그대로 호출
+            return timed(call);
+        }
+
+        try {
+            return primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            CompletableFuture<T> hedge;
+            try {
+                hedge = CompletableFuture.supplyAsync(() -> timed(call), hedgeExecutor);
+                record("hedge");
+            } catch (RejectedExecutionException rejected) {
+                return join(primary);
+            }
+            return firstSuccessful(primary, hedge);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 호출 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+
+    /**
+     * 두 요청 중 먼저 성공한 결과를 반환합니다. 둘 다 실패하면 실패 예외를 던집니다.
+     */
+    private <T> T firstSuccessful(
+            CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        CompletableFuture.allOf(primary, hedge).whenComplete((ignored, error) -> {
+            // 둘 다 끝났는데 성공한 결과가 없다면 예외로 완료
+            if (error != null) {
+                winner.completeExceptionally(error);
+            }
+        });
+        for (CompletableFuture<T> future : Arrays.asList(primary, hedge)) {
+            future.thenAccept(winner::complete);
+        }
+
+        return join(winner);
+    }
+
+
+    /**
+     * 호출 지연 시간을 기록하며 실행합니다.
+     */
+    private <T> T timed(
+            Supplier<T> call) {
+
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("retry.attempt")
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            addLatency(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+
+    /**
+     * 헤징 기준 지연 시간을 계산합니다. 표본이 충분하지 않거나 헤징이 꺼져 있으면 0을 반환합니다.
+     */
+    private synchronized long hedgeDelayMs() {
+
+        if (hedgePercentile <= 0 || hedgeExecutor == null || latencyCount < LATENCY_WINDOW / 5) {
+            return 0;
+        }
+
+        long[] samples = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(samples);
+        int index = (int) Math.min(samples.length - 1, Math.ceil(hedgePercentile * samples.length) - 1);
+        return Math.max(1, samples[Math.max(0, index)]);
+    }
+
+
+    private synchronized void addLatency(
+            long latencyMs) {
+
+        latencies[latencyIndex] = latencyMs;
+        latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+    }
+
+
+    /**
+     * 전체 지터가 적용된 지수 백오프 대기 시간을 계산합니다.
+     */
+    private long backoffDelay(
+            int attempt) {
+
+        long cap = Math.min(maxDelayMs, baseDelayMs * (1L << Math.min(attempt - 1, 20)));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+
+    private void record(
+            String outcome) {
+
+        Counter.builder("retry.attempts")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+
+    private void sleep(
+            long delayMs) {
+
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+
+    private <T> T join(
+            CompletableFuture<T> future) {
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+
+    private RuntimeException unwrap(
+            Exception e) {
+
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(cause);
+    }
+}
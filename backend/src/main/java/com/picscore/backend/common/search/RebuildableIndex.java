@@ -0,0 +1,141 @@
+package com.picscore.backend.common.search;
+
+import com.picscore.backend.common.utill.TransactionUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DB 데이터로 주기적으로 다시 만들면서 증분 변경도 반영하는 메모리 내 색인의 공통 기반 클래스
+ *
+ * 조회는 읽기 잠금, 증분 변경은 쓰기 잠금 안에서 현재 데이터(S)에 적용합니다.
+ * 재구성은 새 데이터를 잠금 밖에서 만든 뒤 교체하므로, 재구성 중에도 조회는 기존 데이터로 처리됩니다.
+ * 재구성 중에 반영된 증분 변경은 기록해 두었다가 교체 직전에 새 데이터에도 다시 적용하므로, DB 조회 이후의 변경이 교체로 사라지지 않습니다.
+ * (기록된 변경이 DB 조회 결과에 이미 포함되어 있을 수 있으므로, 변경은 여러 번 적용해도 결과가 같도록 만들어야 합니다)
+ *
+ * @param <S> 색인 데이터 타입 (잠금 안에서만 접근)
+ */
+public abstract class RebuildableIndex<S> {
+
+    private final TransactionUtil transactionUtil;
+    private final Supplier<S> emptyState;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private S state;
+    // 재구성 중에 반영된 증분 변경 (재구성 중이 아니면 null, 쓰기 잠금 안에서만 접근)
+    private List<Consumer<S>> pendingUpdates;
+
+
+    protected RebuildableIndex(
+            TransactionUtil transactionUtil, Supplier<S> emptyState) {
+        this.transactionUtil = transactionUtil;
+        this.emptyState = emptyState;
+        this.state = emptyState.get();
+    }
+
+
+    /**
+     * 빈 데이터에 loader로 DB 데이터를 적재한 뒤, 재구성 중 기록된 변경을 다시 적용하여 교체합니다.
+     * 적재에 실패하면 기존 데이터를 유지하고 기록만 멈춥니다.
+     *
+     * @param loader 빈 데이터에 DB 데이터를 적재하는 작업
+     * @return 교체된 새 데이터
+     */
+    protected synchronized S rebuild(
+            Consumer<S> loader) {
+
+        startRecording();
+
+        S rebuilt = emptyState.get();
+        try {
+            loader.accept(rebuilt);
+        } catch (RuntimeException e) {
+            swap(null);
+            throw e;
+        }
+
+        swap(rebuilt);
+        return rebuilt;
+    }
+
+
+    /**
+     * 읽기 잠금 안에서 현재 데이터를 조회합니다.
+     */
+    protected <T> T read(
+            Function<S, T> query) {
+
+        lock.readLock().lock();
+        try {
+            return query.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * 현재 데이터에 변경을 적용합니다. (트랜잭션 안이면 커밋 후 반영)
+     */
+    protected void writeAfterCommit(
+            Consumer<S> update) {
+
+        transactionUtil.afterCommit(() -> write(update));
+    }
+
+
+    /**
+     * 현재 데이터에 변경을 적용합니다. 재구성 중이면 새 데이터에도 적용하도록 기록합니다.
+     */
+    private void write(
+            Consumer<S> update) {
+
+        lock.writeLock().lock();
+        try {
+            update.accept(state);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * 재구성 중 반영되는 증분 변경을 기록하기 시작합니다.
+     */
+    private void startRecording() {
+
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * 기록된 증분 변경을 새 데이터에 다시 적용한 뒤 교체하고 기록을 멈춥니다. (rebuilt가 null이면 기록만 멈춤)
+     */
+    private void swap(
+            S rebuilt) {
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                pendingUpdates.forEach(update -> update.accept(rebuilt));
+                state = rebuilt;
+            }
+        } finally {
+            pendingUpdates = null;
+            lock.writeLock().unlock();
+        }
+    }
+}
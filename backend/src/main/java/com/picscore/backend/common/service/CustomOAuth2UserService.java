@@ -7,6 +7,7 @@ import com.picscore.backend.user.model.response.GoogleResponse;
 import com.picscore.backend.user.model.response.KakaoResponse;
 import com.picscore.backend.user.model.response.OAuth2Response;
 import com.picscore.backend.user.repository.UserRepository;
+import com.picscore.backend.user.search.UserSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -21,6 +22,7 @@ import java.util.Map;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserSearchIndex userSearchIndex;
 
 
     /**
@@ -76,6 +78,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
             firstUser = true;
             userRepository.save(user);
+            userSearchIndex.put(user.getId(), user.getNickName());
         }
 
         // 사용자 정보를 UserDto에 매핑 (새 사용자든 기존 사용자든 동일한 처리)
@@ -43,14 +43,27 @@ public class NotificationService {
     public void sendNotification(
             Long userId, String message) {
 
+        sendEvent(userId, "notification", message);
+    }
+
+
+    /**
+     * 특정 사용자에게 이름이 지정된 이벤트 전송
+     *
+     * @param userId    사용자 ID
+     * @param eventName 이벤트 이름
+     * @param data      전송할 데이터 (객체는 JSON으로 직렬화)
+     */
+    public void sendEvent(
+            Long userId, String eventName, Object data) {
+
         SseEmitter emitter = emitters.get(userId);
         if (emitter != null) {
             try {
-                emitter.send(SseEmitter.event().name("notification").data(message));
+                emitter.send(SseEmitter.event().name(eventName).data(data));
             } catch (IOException e) {
                 emitters.remove(userId); // 전송 실패 시 제거
             }
         }
     }
 }
-
@@ -0,0 +1,186 @@
+package com.picscore.backend.common.storage;
+
+import com.picscore.backend.common.queue.WorkerLease;
+import com.picscore.backend.common.utill.RedisUtil;
+import com.picscore.backend.common.utill.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 객체 삭제를 Redis 대기열에 모아 백그라운드에서 DeleteObjects로 일괄 처리하는 컴포넌트
+ * 사용자 요청 처리 중에는 키를 대기열에 넣기만 하므로 삭제 응답 시간에 S3 왕복이 포함되지 않습니다.
+ * 트랜잭션 안에서 등록하면 커밋된 뒤에만 대기열에 넣어, 롤백된 삭제가 S3에 반영되지 않도록 합니다.
+ *
+ * Redis 키 구조:
+ *     s3-deletion:queue       삭제 대기 중인 S3 키 List
+ *     s3-deletion:processing:{인스턴스 ID}  인스턴스별 삭제 요청 중인 S3 키 List (완료 시 제거, 실패 또는 인스턴스 임대 만료 시 대기열로 복구)
+ *     s3-deletion:workers     삭제를 처리하는 인스턴스 ID Set
+ *     s3-deletion:attempts    삭제에 실패한 S3 키별 실패 횟수 Hash (삭제되거나 포기하면 제거)
+ *     s3-deletion:dead-letter 최대 시도 횟수만큼 실패하여 더 이상 재시도하지 않는 S3 키 List (수동 확인 대상)
+ */
+@Slf4j
+@Component
+public class S3DeletionQueue {
+
+    private static final String QUEUE_KEY = "s3-deletion:queue";
+    private static final String PROCESSING_PREFIX = "s3-deletion:processing";
+    private static final String WORKERS_KEY = "s3-deletion:workers";
+    private static final String ATTEMPTS_KEY = "s3-deletion:attempts";
+    private static final String DEAD_LETTER_KEY = "s3-deletion:dead-letter";
+
+    // 대기열 끝에서 최대 ARGV[1]개를 꺼내 processing List로 원자적으로 옮김
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_BATCH_SCRIPT = RedisScript.of("""
+            local count = tonumber(ARGV[1])
+            local items = redis.call('LRANGE', KEYS[1], -count, -1)
+            if #items > 0 then
+                redis.call('LTRIM', KEYS[1], 0, -count - 1)
+                redis.call('RPUSH', KEYS[2], unpack(items))
+            end
+            return items
+            """, List.class);
+
+    // processing List를 비우고, 삭제에 실패한 키(ARGV[2..])는 실패 횟수를 올려 대기열에 되돌림
+    // 실패 횟수가 ARGV[1]에 도달한 키는 dead-letter List로 옮기고, 삭제된 키의 실패 횟수는 제거
+    private static final RedisScript<Long> COMPLETE_BATCH_SCRIPT = RedisScript.of("""
+            local failed = {}
+            for i = 2, #ARGV do
+                failed[ARGV[i]] = true
+            end
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                for _, key in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                    if not failed[key] then
+                        redis.call('HDEL', KEYS[3], key)
+                    end
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            local dead = 0
+            for i = 2, #ARGV do
+                if redis.call('HINCRBY', KEYS[3], ARGV[i], 1) >= tonumber(ARGV[1]) then
+                    redis.call('HDEL', KEYS[3], ARGV[i])
+                    redis.call('LPUSH', KEYS[4], ARGV[i])
+                    dead = dead + 1
+                else
+                    redis.call('LPUSH', KEYS[2], ARGV[i])
+                end
+            end
+            return dead
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+    private final TransactionUtil transactionUtil;
+    private final S3ObjectDeleter s3ObjectDeleter;
+    private final WorkerLease workerLease;
+    private final String processingKey;
+
+    @Value("${photo.deletion.max-attempts:5}")
+    private int maxAttempts;
+
+    // 처리 인스턴스 등록 여부 (키를 처음 꺼내기 전에 등록해야 중단 시 회수됨)
+    private volatile boolean registered = false;
+
+
+    public S3DeletionQueue(
+            RedisUtil redisUtil, TransactionUtil transactionUtil, S3ObjectDeleter s3ObjectDeleter, WorkerLease workerLease) {
+        this.redisUtil = redisUtil;
+        this.transactionUtil = transactionUtil;
+        this.s3ObjectDeleter = s3ObjectDeleter;
+        this.workerLease = workerLease;
+        this.processingKey = workerLease.processingKey(PROCESSING_PREFIX);
+    }
+
+
+    /**
+     * 삭제할 S3 키를 대기열에 등록합니다.
+     *
+     * @param keys 삭제할 S3 키 목록
+     */
+    public void enqueue(
+            Collection<String> keys) {
+
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        transactionUtil.afterCommit(() -> redisUtil.leftPushAll(QUEUE_KEY, keys));
+    }
+
+
+    /**
+     * 대기열의 키를 1000개 단위로 이 인스턴스의 processing List로 꺼내 삭제합니다.
+     * 개별 키 삭제에 실패하면 그 키만 대기열로 되돌리고, S3 요청 자체가 실패하면 꺼낸 키를 모두 되돌려 다음 실행에서 다시 시도합니다.
+     * 같은 키가 최대 시도 횟수(photo.deletion.max-attempts)만큼 실패하면 dead-letter List로 옮겨 더 이상 재시도하지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public void flush() {
+
+        if (!registered) {
+            workerLease.register(WORKERS_KEY);
+            registered = true;
+        }
+
+        while (true) {
+            List<String> keys = redisUtil.executeScript(TAKE_BATCH_SCRIPT, List.of(QUEUE_KEY, processingKey),
+                    String.valueOf(S3ObjectDeleter.MAX_KEYS_PER_REQUEST));
+            if (keys == null || keys.isEmpty()) {
+                return;
+            }
+
+            List<String> failedKeys;
+            try {
+                failedKeys = s3ObjectDeleter.deleteAll(keys);
+            } catch (RuntimeException e) {
+                returnInFlight();
+                throw e;
+            }
+
+            List<Object> args = new ArrayList<>();
+            args.add(String.valueOf(maxAttempts));
+            args.addAll(failedKeys);
+            Long dead = redisUtil.executeScript(COMPLETE_BATCH_SCRIPT,
+                    List.of(processingKey, QUEUE_KEY, ATTEMPTS_KEY, DEAD_LETTER_KEY), args.toArray());
+            if (dead != null && dead > 0) {
+                log.error("S3 삭제를 {}회 실패한 키 {}건을 {}로 옮겼습니다.", maxAttempts, dead, DEAD_LETTER_KEY);
+            }
+
+            // 실패한 키가 있으면 같은 키를 바로 다시 꺼내지 않도록 다음 실행에서 이어서 처리
+            if (!failedKeys.isEmpty() || keys.size() < S3ObjectDeleter.MAX_KEYS_PER_REQUEST) {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * 이 인스턴스를 삭제 처리 인스턴스로 등록하고, 임대가 만료된(중단된) 인스턴스가 삭제 요청 중이던 키를 대기열로 되돌립니다.
+     * 다른 인스턴스가 삭제 요청 중인 키는 그 인스턴스의 processing List에 있으므로 되돌리지 않습니다.
+     */
+    public void recoverInFlight() {
+
+        workerLease.register(WORKERS_KEY);
+        registered = true;
+        long recovered = workerLease.recoverExpired(WORKERS_KEY, PROCESSING_PREFIX, QUEUE_KEY);
+
+        if (recovered > 0) {
+            log.info("중단된 S3 삭제 요청 {}건을 대기열로 복구했습니다.", recovered);
+        }
+    }
+
+
+    /**
+     * 이 인스턴스가 꺼낸 키를 대기열로 되돌립니다.
+     */
+    private void returnInFlight() {
+
+        while (redisUtil.rightPopAndLeftPush(processingKey, QUEUE_KEY) != null) {
+            // processing List가 빌 때까지 반복
+        }
+    }
+}
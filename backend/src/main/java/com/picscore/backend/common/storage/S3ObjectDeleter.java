@@ -0,0 +1,63 @@
+package com.picscore.backend.common.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 S3 객체를 DeleteObjects 요청으로 묶어 삭제하는 컴포넌트
+ * 요청 하나에 최대 1000개 키까지 담을 수 있으므로 키 목록을 1000개 단위로 나누어 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectDeleter {
+
+    // DeleteObjects 요청 하나에 담을 수 있는 최대 키 수
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3Client s3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+
+    /**
+     * 키 목록의 S3 객체를 일괄 삭제합니다.
+     * 존재하지 않는 키는 S3에서 성공으로 처리되며, 개별 키 삭제 실패는 로그로 남기고 건너뜁니다.
+     *
+     * @param keys 삭제할 S3 키 목록
+     * @return 삭제에 실패한 키 목록
+     */
+    public List<String> deleteAll(
+            List<String> keys) {
+
+        List<String> failedKeys = new ArrayList<>();
+
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build();
+
+            // quiet 모드에서는 실패한 키만 응답에 포함됨
+            for (S3Error error : s3Client.deleteObjects(deleteObjectsRequest).errors()) {
+                log.warn("S3 객체 삭제 실패 (key={}): {} {}", error.key(), error.code(), error.message());
+                failedKeys.add(error.key());
+            }
+        }
+
+        return failedKeys;
+    }
+}
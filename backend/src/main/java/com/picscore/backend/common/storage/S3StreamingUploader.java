@@ -0,0 +1,280 @@
+package com.picscore.backend.common.storage;
+
+import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.utill.HashUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 요청 본문을 메모리나 디스크에 모으지 않고 S3로 바로 업로드하는 컴포넌트
+ *
+ * 스트림을 S3 멀티파트 최소 크기(5MB) 단위로 읽어 파트로 올리며, 버퍼는 업로드 하나당 두 개만 사용합니다.
+ * 한 파트를 업로드 스레드 풀에서 전송하는 동안 다음 파트를 읽으므로 S3 응답을 기다리는 동안에도 수신이 멈추지 않습니다.
+ * 읽는 도중 크기 제한과 파일 시그니처를 검사하고, 실패하면 진행 중인 멀티파트 업로드를 중단합니다.
+ * 첫 파트에서 스트림이 끝나면 멀티파트 없이 단일 PutObject로 업로드합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StreamingUploader {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    // 허용하는 이미지 형식별 파일 시그니처
+    private static final Map<String, byte[]> SIGNATURES = Map.of(
+            "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF},
+            "image/png", new byte[]{(byte) 0x89, 'P', 'N', 'G'},
+            "image/gif", new byte[]{'G', 'I', 'F', '8'},
+            "image/webp", new byte[]{'R', 'I', 'F', 'F'}
+    );
+
+    private final S3Client s3Client;
+    private final HashUtil hashUtil;
+
+    @Qualifier("uploadExecutor")
+    private final Executor uploadExecutor;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+
+    /**
+     * 업로드 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class UploadResult {
+        private String key;
+        private String contentHash;
+        private long size;
+    }
+
+
+    /**
+     * 지원하는 이미지 Content-Type인지 확인합니다.
+     *
+     * @param contentType 요청 Content-Type
+     * @return 지원 여부
+     */
+    public boolean isSupported(
+            String contentType) {
+
+        return contentType != null && SIGNATURES.containsKey(contentType);
+    }
+
+
+    /**
+     * 스트림을 S3에 업로드합니다.
+     *
+     * @param inputStream 업로드할 스트림 (호출자가 닫아야 함)
+     * @param key 저장할 S3 키
+     * @param contentType 이미지 Content-Type (지원 형식이어야 함)
+     * @param maxBytes 허용하는 최대 크기(byte)
+     * @return 업로드된 키, 내용 해시, 크기
+     * @throws IOException 스트림 읽기 중 오류
+     */
+    public UploadResult upload(
+            InputStream inputStream, String key, String contentType, long maxBytes) throws IOException {
+
+        if (!isSupported(contentType)) {
+            throw new CustomException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 이미지 형식입니다: " + contentType);
+        }
+
+        MessageDigest digest = hashUtil.newDigest();
+        InputStream source = new DigestInputStream(inputStream, digest);
+
+        byte[] buffer = new byte[PART_SIZE];
+        int read = source.readNBytes(buffer, 0, PART_SIZE);
+        long total = read;
+
+        checkSize(total, maxBytes);
+        checkSignature(contentType, buffer, read);
+
+        // 첫 파트 안에서 끝나면 단일 요청으로 업로드
+        if (read < PART_SIZE) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+
+            return new UploadResult(key, hashUtil.toHex(digest.digest()), total);
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+        CompletableFuture<CompletedPart> pending = null;
+        byte[] spare = new byte[PART_SIZE];
+
+        try {
+            int partNumber = 1;
+            while (read > 0) {
+                // 이전 파트 전송이 끝나야 그 버퍼를 다시 채울 수 있음
+                if (pending != null) {
+                    completedParts.add(join(pending));
+                }
+                pending = uploadPartAsync(key, uploadId, partNumber++, buffer, read);
+
+                byte[] filled = buffer;
+                buffer = spare;
+                spare = filled;
+
+                read = source.readNBytes(buffer, 0, PART_SIZE);
+                total += read;
+                checkSize(total, maxBytes);
+            }
+            completedParts.add(join(pending));
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, pending);
+            throw e;
+        }
+
+        return new UploadResult(key, hashUtil.toHex(digest.digest()), total);
+    }
+
+
+    /**
+     * 파트 하나를 업로드 스레드 풀에서 전송합니다. 스레드가 모두 사용 중이면 현재 스레드에서 전송합니다.
+     */
+    private CompletableFuture<CompletedPart> uploadPartAsync(
+            String key, String uploadId, int partNumber, byte[] buffer, int length) {
+
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> uploadPart(uploadPartRequest, buffer, length), uploadExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(uploadPart(uploadPartRequest, buffer, length));
+        }
+    }
+
+
+    private CompletedPart uploadPart(
+            UploadPartRequest uploadPartRequest, byte[] buffer, int length) {
+
+        String eTag = s3Client.uploadPart(uploadPartRequest,
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+
+        return CompletedPart.builder()
+                .partNumber(uploadPartRequest.partNumber())
+                .eTag(eTag)
+                .build();
+    }
+
+
+    /**
+     * 진행 중인 멀티파트 업로드를 중단하여 S3에 남은 파트를 정리합니다.
+     */
+    private void abort(
+            String key, String uploadId, CompletableFuture<CompletedPart> pending) {
+
+        if (pending != null) {
+            // 전송 중인 파트가 끝난 뒤 중단해야 파트가 남지 않음
+            try {
+                pending.join();
+            } catch (CompletionException ignored) {
+            }
+        }
+
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (S3Exception e) {
+            log.warn("멀티파트 업로드 중단 실패 (key={}, uploadId={}): {}", key, uploadId, e.getMessage());
+        }
+    }
+
+
+    private void checkSize(
+            long total, long maxBytes) {
+
+        if (total > maxBytes) {
+            throw new CustomException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "업로드 가능한 최대 크기(" + maxBytes / (1024 * 1024) + "MB)를 초과했습니다.");
+        }
+    }
+
+
+    /**
+     * 스트림 앞부분이 선언된 Content-Type의 파일 시그니처와 일치하는지 확인합니다.
+     */
+    private void checkSignature(
+            String contentType, byte[] buffer, int length) {
+
+        if (length == 0) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "업로드 파일이 유효하지 않습니다");
+        }
+
+        byte[] signature = SIGNATURES.get(contentType);
+        boolean matches = length >= signature.length
+                && Arrays.equals(buffer, 0, signature.length, signature, 0, signature.length);
+
+        // WebP는 RIFF 컨테이너 안의 형식 표시까지 확인
+        if (matches && "image/webp".equals(contentType)) {
+            matches = length >= 12 && buffer[8] == 'W' && buffer[9] == 'E' && buffer[10] == 'B' && buffer[11] == 'P';
+        }
+
+        if (!matches) {
+            throw new CustomException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "파일 내용이 " + contentType + " 형식과 일치하지 않습니다.");
+        }
+    }
+
+
+    private CompletedPart join(
+            CompletableFuture<CompletedPart> future) {
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : e;
+        }
+    }
+}
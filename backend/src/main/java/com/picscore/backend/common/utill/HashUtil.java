@@ -0,0 +1,63 @@
+package com.picscore.backend.common.utill;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Component
+public class HashUtil {
+
+
+    /**
+     * 바이트 배열의 SHA-256 해시를 16진수 문자열로 반환
+     */
+    public String sha256Hex(
+            byte[] bytes) {
+
+        return toHex(newDigest().digest(bytes));
+    }
+
+
+    /**
+     * 스트림 전체를 읽으며 SHA-256 해시를 계산해 16진수 문자열로 반환
+     * 내용을 메모리에 모으지 않고 읽는 즉시 해시에 반영합니다. (스트림은 호출자가 닫아야 함)
+     */
+    public String sha256Hex(
+            InputStream inputStream) throws IOException {
+
+        MessageDigest digest = newDigest();
+        DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest);
+        digestInputStream.transferTo(OutputStream.nullOutputStream());
+
+        return toHex(digest.digest());
+    }
+
+
+    /**
+     * 읽으면서 해시를 계산해야 하는 경우(DigestInputStream 등)에 사용할 SHA-256 다이제스트 생성
+     */
+    public MessageDigest newDigest() {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+
+    /**
+     * 다이제스트 결과를 16진수 문자열로 변환
+     */
+    public String toHex(
+            byte[] digest) {
+
+        return HexFormat.of().formatHex(digest);
+    }
+}
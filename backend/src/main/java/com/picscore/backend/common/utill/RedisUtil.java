@@ -2,11 +2,15 @@ package com.picscore.backend.common.utill;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -16,6 +20,7 @@ import java.util.stream.Collectors;
 public class RedisUtil {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
 
     /**
@@ -165,5 +170,202 @@ public class RedisUtil {
 
         return redisTemplate.opsForZSet().size(key);
     }
-}
 
+
+    /**
+     * 키의 만료 시간을 설정합니다.
+     *
+     * @param key     대상 키
+     * @param seconds 만료 시간(초)
+     * @return 설정에 성공하면 true
+     */
+    public Boolean expire(
+            String key, long seconds) {
+
+        return redisTemplate.expire(key, seconds, TimeUnit.SECONDS);
+    }
+
+
+    /**
+     * 대상 키가 존재하지 않을 때만 키 이름을 변경합니다. (RENAMENX 기능)
+     *
+     * @param oldKey 기존 키
+     * @param newKey 새 키
+     * @return 변경에 성공하면 true, 대상 키가 이미 존재하면 false
+     */
+    public Boolean renameIfAbsent(
+            String oldKey, String newKey) {
+
+        return stringRedisTemplate.renameIfAbsent(oldKey, newKey);
+    }
+
+
+    /**
+     * Lua 스크립트를 원자적으로 실행합니다.
+     * 키와 인자는 문자열 그대로 전달됩니다.
+     *
+     * @param script 실행할 스크립트
+     * @param keys   스크립트의 KEYS
+     * @param args   스크립트의 ARGV
+     * @return 스크립트 실행 결과
+     */
+    public <T> T executeScript(
+            RedisScript<T> script, List<String> keys, Object... args) {
+
+        return stringRedisTemplate.execute(script, keys, args);
+    }
+
+
+    /**
+     * Set의 멤버 여부를 확인합니다.
+     *
+     * @param key    Set의 Redis 키
+     * @param member 확인할 멤버
+     * @return 멤버이면 true
+     */
+    public Boolean isSetMember(
+            String key, String member) {
+
+        return stringRedisTemplate.opsForSet().isMember(key, member);
+    }
+
+
+    /**
+     * Set의 크기를 반환합니다.
+     *
+     * @param key Set의 Redis 키
+     * @return Set에 저장된 멤버 수, 키가 없으면 0
+     */
+    public Long getSetSize(
+            String key) {
+
+        return stringRedisTemplate.opsForSet().size(key);
+    }
+
+
+    /**
+     * Hash에 저장된 모든 필드와 값을 조회합니다.
+     *
+     * @param key Hash의 Redis 키
+     * @return 필드-값 Map, 키가 없으면 빈 Map
+     */
+    public Map<Object, Object> getHashEntries(
+            String key) {
+
+        return stringRedisTemplate.opsForHash().entries(key);
+    }
+
+
+    /**
+     * Hash에 필드와 값을 저장합니다.
+     *
+     * @param key   Hash의 Redis 키
+     * @param field 필드
+     * @param value 값
+     */
+    public void putHashEntry(
+            String key, String field, String value) {
+
+        stringRedisTemplate.opsForHash().put(key, field, value);
+    }
+
+
+    /**
+     * List의 왼쪽(head)에 값을 추가합니다.
+     *
+     * @param key   List의 Redis 키
+     * @param value 추가할 값
+     * @return 추가 후 List 길이
+     */
+    public Long leftPush(
+            String key, String value) {
+
+        return stringRedisTemplate.opsForList().leftPush(key, value);
+    }
+
+
+    /**
+     * List의 왼쪽(head)에 여러 값을 한 번에 추가합니다.
+     *
+     * @param key    List의 Redis 키
+     * @param values 추가할 값 목록
+     * @return 추가 후 List 길이
+     */
+    public Long leftPushAll(
+            String key, Collection<String> values) {
+
+        return stringRedisTemplate.opsForList().leftPushAll(key, values);
+    }
+
+
+    /**
+     * 원본 List의 오른쪽(tail) 값을 꺼내 대상 List의 왼쪽에 원자적으로 옮깁니다. (RPOPLPUSH 기능)
+     * 처리 중인 작업을 별도 List에 보관하여 장애 시 복구할 수 있도록 할 때 사용합니다.
+     *
+     * @param sourceKey      원본 List 키
+     * @param destinationKey 대상 List 키
+     * @return 옮겨진 값, 원본 List가 비어 있으면 null
+     */
+    public String rightPopAndLeftPush(
+            String sourceKey, String destinationKey) {
+
+        return stringRedisTemplate.opsForList().rightPopAndLeftPush(sourceKey, destinationKey);
+    }
+
+
+    /**
+     * List에서 지정한 값을 한 개 제거합니다.
+     *
+     * @param key   List의 Redis 키
+     * @param value 제거할 값
+     * @return 제거된 개수
+     */
+    public Long removeFromList(
+            String key, String value) {
+
+        return stringRedisTemplate.opsForList().remove(key, 1, value);
+    }
+
+
+    /**
+     * Sorted Set에 문자열 멤버를 지정한 점수로 추가합니다. 이미 있으면 점수만 갱신합니다.
+     *
+     * @param key    Sorted Set의 Redis 키
+     * @param member 추가할 멤버
+     * @param score  점수
+     * @return 새로 추가되었으면 true
+     */
+    public Boolean addToSortedSet(
+            String key, String member, double score) {
+
+        return stringRedisTemplate.opsForZSet().add(key, member, score);
+    }
+
+
+    /**
+     * 문자열 값을 그대로 저장하고 만료 시간을 설정합니다.
+     * 타입 정보 없이 JSON 문자열을 직접 저장해야 할 때 사용합니다.
+     *
+     * @param key     저장할 키
+     * @param value   저장할 문자열
+     * @param seconds 만료 시간(초)
+     */
+    public void setString(
+            String key, String value, long seconds) {
+
+        stringRedisTemplate.opsForValue().set(key, value, seconds, TimeUnit.SECONDS);
+    }
+
+
+    /**
+     * 문자열 값을 조회합니다.
+     *
+     * @param key 조회할 키
+     * @return 저장된 문자열, 키가 없는 경우 null
+     */
+    public String getString(
+            String key) {
+
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+}
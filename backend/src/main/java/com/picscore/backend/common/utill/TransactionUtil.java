@@ -0,0 +1,30 @@
+package com.picscore.backend.common.utill;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TransactionUtil {
+
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 작업을 실행
+     * 롤백된 변경이 Redis 등 트랜잭션 밖의 저장소에 반영되지 않도록 할 때 사용합니다.
+     */
+    public void afterCommit(
+            Runnable task) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+
+        task.run();
+    }
+}
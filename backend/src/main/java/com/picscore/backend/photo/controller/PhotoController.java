@@ -1,19 +1,26 @@
 package com.picscore.backend.photo.controller;
 
 import com.picscore.backend.common.model.response.BaseResponse;
+import com.picscore.backend.photo.model.dto.PhotoDownload;
 import com.picscore.backend.photo.model.response.*;
+import com.picscore.backend.photo.model.request.CompleteUploadRequest;
+import com.picscore.backend.photo.model.request.PresignedUploadRequest;
 import com.picscore.backend.photo.model.request.UploadPhotoRequest;
+import com.picscore.backend.photo.service.HashtagService;
 import com.picscore.backend.photo.service.PhotoService;
 import com.picscore.backend.user.service.OAuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +33,7 @@ import java.util.Map;
 public class PhotoController {
 
     private final PhotoService photoService;
+    private final HashtagService hashtagService;
     private final OAuthService oAuthService;
 
 
@@ -46,6 +54,58 @@ public class PhotoController {
     }
 
 
+    /**
+     * 요청 본문의 이미지를 버퍼링 없이 스트리밍으로 임시 저장합니다.
+     * 멀티파트 대신 이미지 바이너리를 본문으로 보내며, Content-Type은 image/jpeg, image/png, image/gif, image/webp 중 하나여야 합니다.
+     *
+     * @param request HTTP 요청 객체 (본문 스트림)
+     * @return 업로드된 사진에 대한 응답 정보 (성공 메시지와 함께)
+     * @throws IOException 스트림 읽기 중 입출력 오류 발생 가능
+     */
+    @PostMapping("/photo/stream")
+    public ResponseEntity<BaseResponse<UploadPhotoResponse>> uploadFileStream(
+            HttpServletRequest request) throws IOException {
+
+        UploadPhotoResponse uploadPhotoResponse = photoService.uploadFileStream(
+                request.getInputStream(), request.getContentType(), request.getContentLengthLong());
+
+        return ResponseEntity.ok(BaseResponse.success("임시 파일 저장 완료", uploadPhotoResponse));
+    }
+
+
+    /**
+     * S3에 직접 업로드할 수 있는 서명된 URL을 발급합니다.
+     * 같은 콘텐츠가 이미 저장되어 있다면 uploadUrl 없이 기존 파일 정보를 반환합니다.
+     *
+     * @param payload 업로드할 파일의 Content-Type, 크기, SHA-256 해시
+     * @return 서명된 업로드 URL과 PUT 요청 시 보내야 할 헤더
+     */
+    @PostMapping("/photo/presigned")
+    public ResponseEntity<BaseResponse<PresignedUploadResponse>> createPresignedUpload(
+            @RequestBody PresignedUploadRequest payload) {
+
+        PresignedUploadResponse presignedUploadResponse = photoService.createPresignedUpload(payload);
+
+        return ResponseEntity.ok(BaseResponse.success("업로드 URL 발급 완료", presignedUploadResponse));
+    }
+
+
+    /**
+     * 서명된 URL로 업로드를 마친 뒤 호출하여 임시 파일 등록을 완료합니다.
+     *
+     * @param payload 업로드한 파일명
+     * @return 업로드된 사진에 대한 응답 정보 (성공 메시지와 함께)
+     */
+    @PostMapping("/photo/presigned/complete")
+    public ResponseEntity<BaseResponse<UploadPhotoResponse>> completePresignedUpload(
+            @RequestBody CompleteUploadRequest payload) {
+
+        UploadPhotoResponse uploadPhotoResponse = photoService.completePresignedUpload(payload);
+
+        return ResponseEntity.ok(BaseResponse.success("임시 파일 저장 완료", uploadPhotoResponse));
+    }
+
+
     /**
      * 새로운 사진을 업로드하는 엔드포인트
      *
@@ -67,17 +127,57 @@ public class PhotoController {
 
     /**
      * 특정 해시태그로 사진을 검색하는 엔드포인트
+     * 완전 일치, 접두 일치, 부분 일치 순으로 정렬되며, 페이지당 최대 24개의 썸네일을 반환합니다.
      *
      * @param keyword 검색 요청 객체 (해시태그 키워드 포함)
-     * @return ResponseEntity<BaseResponse<List<GetPhotosResponse>>> 검색된 사진 목록 응답
+     * @param pageNum 조회할 페이지 번호 (기본값 1)
+     * @param sort 같은 일치 수준 안의 정렬 방식 (latest, score)
+     * @return ResponseEntity<BaseResponse<Map<String, Object>>> 페이징된 사진 목록 응답
      */
     @GetMapping("/photo/search")
-    public ResponseEntity<BaseResponse<List<GetPhotosResponse>>> searchPhotosByHashtag(
-            @RequestParam String keyword) {
+    public ResponseEntity<BaseResponse<Map<String, Object>>> searchPhotosByHashtag(
+            @RequestParam String keyword, @RequestParam(defaultValue = "1") int pageNum,
+            @RequestParam(required = false) String sort) {
 
-        List<GetPhotosResponse> getPhotosResponseList = photoService.searchPhotosByHashtag(keyword);
+        Map<String, Object> response = photoService.searchPhotosByHashtag(keyword, pageNum, sort);
 
-        return ResponseEntity.ok(BaseResponse.success("사진 조회 성공", getPhotosResponseList));
+        return ResponseEntity.ok(BaseResponse.success("사진 조회 성공", response));
+    }
+
+
+    /**
+     * 특정 해시태그로 사진을 커서 기반으로 검색하는 엔드포인트 (무한 스크롤)
+     *
+     * @param keyword 검색할 해시태그 키워드
+     * @param cursor 이전 응답의 nextCursor 값 (첫 요청 시 생략)
+     * @param sort 같은 일치 수준 안의 정렬 방식 (latest, score)
+     * @return ResponseEntity<BaseResponse<Map<String, Object>>> 사진 목록과 다음 커서 응답
+     */
+    @GetMapping("/photo/search/scroll")
+    public ResponseEntity<BaseResponse<Map<String, Object>>> scrollPhotosByHashtag(
+            @RequestParam String keyword, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort) {
+
+        Map<String, Object> response = photoService.scrollPhotosByHashtag(keyword, cursor, sort);
+
+        return ResponseEntity.ok(BaseResponse.success("사진 조회 성공", response));
+    }
+
+
+    /**
+     * 입력 중인 접두사로 시작하는 해시태그를 사용 횟수 순으로 추천하는 엔드포인트
+     *
+     * @param prefix 입력 중인 해시태그 접두사
+     * @param size 추천받을 개수 (기본값 10)
+     * @return ResponseEntity<BaseResponse<List<HashtagSuggestResponse>>> 추천 해시태그 목록 응답
+     */
+    @GetMapping("/photo/hashtag/suggest")
+    public ResponseEntity<BaseResponse<List<HashtagSuggestResponse>>> suggestHashtags(
+            @RequestParam String prefix, @RequestParam(defaultValue = "10") int size) {
+
+        List<HashtagSuggestResponse> suggestions = hashtagService.suggestHashtags(prefix, size);
+
+        return ResponseEntity.ok(BaseResponse.success("해시태그 추천 성공", suggestions));
     }
 
 
@@ -190,6 +290,23 @@ public class PhotoController {
     }
 
 
+    /**
+     * 전체 사진 목록을 커서 기반으로 조회하는 엔드포인트 (무한 스크롤)
+     *
+     * @param cursor 이전 응답의 nextCursor 값 (첫 페이지는 생략)
+     * @param sort 정렬 방식 (latest, score, like)
+     * @return ResponseEntity<BaseResponse<Map<String, Object>>> 사진 목록과 다음 커서 응답
+     */
+    @GetMapping("/photos/scroll")
+    public ResponseEntity<BaseResponse<Map<String, Object>>> getScrollPhotos(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) String sort) {
+
+        Map<String, Object> response = photoService.getScrollPhotos(cursor, sort);
+
+        return ResponseEntity.ok(BaseResponse.success("사진 리스트 조회 성공", response));
+    }
+
+
     /**
      * 상위 5개의 인기 있는 사진을 조회하는 엔드포인트
      *
@@ -206,21 +323,51 @@ public class PhotoController {
 
 
     /**
-     * S3 관련 미완성 API
+     * S3에 저장된 원본 사진을 다운로드합니다.
+     * S3 응답을 받는 즉시 클라이언트로 전달하며, Range(부분 다운로드)와 If-None-Match(ETag 캐시 검증)를 지원합니다.
+     *
+     * @param fileName 다운로드할 파일명
+     * @param range 요청 Range 헤더 (예: bytes=0-1023)
+     * @param ifNoneMatch 클라이언트가 보유한 ETag
+     * @return 파일 스트림 (부분 응답은 206, 변경 없음은 304)
      */
     @GetMapping("/download/{fileName}")
-    public ResponseEntity<ByteArrayResource> downloadFile(
-            @PathVariable String fileName) {
-
-        byte[] data = photoService.downloadFile(fileName);
-        ByteArrayResource resource = new ByteArrayResource(data);
-        String permanentFolder = "permanent/";
-
-        return ResponseEntity
-                .ok()
-                .contentLength(data.length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + permanentFolder + fileName + "\"")
-                .body(resource);
+    public ResponseEntity<StreamingResponseBody> downloadFile(
+            @PathVariable String fileName,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        PhotoDownload download = photoService.downloadFile(fileName, range, ifNoneMatch);
+
+        if (download.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(download.getETag())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(download.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .eTag(download.getETag());
+
+        if (download.getContentLength() != null) {
+            builder.contentLength(download.getContentLength());
+        }
+        if (download.getContentRange() != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, download.getContentRange());
+        }
+        if (download.getContentType() != null) {
+            builder.contentType(MediaType.parseMediaType(download.getContentType()));
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream inputStream = download.getInputStream()) {
+                inputStream.transferTo(outputStream);
+            }
+        };
+
+        return builder.body(body);
     }
 
 
@@ -249,16 +396,28 @@ public class PhotoController {
 
 
     /**
-     * 업로드된 사진 파일들의 목록을 조회합니다.
+     * S3 버킷의 파일 목록을 NDJSON으로 스트리밍합니다. (관리자 전용, 허용된 접두사만 조회 가능)
+     * 한 줄에 객체 하나({"key", "size", "lastModified", "eTag"})를 조회되는 대로 전송하며,
+     * 중단된 경우 마지막으로 받은 key를 startAfter로 넘겨 이어서 조회할 수 있습니다.
      *
-     * @return 파일 이름 목록 리스트
+     * @param prefix 조회할 키 접두사 (permanent/, derivative/, profile/ 하위)
+     * @param startAfter 이 키 다음부터 조회
+     * @param limit 최대 조회 개수 (0이면 제한 없음)
+     * @return NDJSON 파일 목록 스트림
      */
-    @GetMapping("/list")
-    public ResponseEntity<List<String>> listFiles(
+    @GetMapping(value = "/list", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> listFiles(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String startAfter,
+            @RequestParam(defaultValue = "0") long limit) {
 
-    ) {
+        // 응답을 쓰기 시작한 뒤에는 오류 응답을 보낼 수 없으므로 스트리밍 전에 확인
+        photoService.checkListPrefix(prefix);
 
-        return ResponseEntity.ok(photoService.listFiles());
+        StreamingResponseBody body = outputStream -> photoService.listFiles(prefix, startAfter, limit, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 }
-
@@ -0,0 +1,102 @@
+package com.picscore.backend.photo.model.dto;
+
+import com.picscore.backend.common.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 무한 스크롤 피드의 다음 페이지 시작 위치를 나타내는 커서
+ * (정렬 기준 값, photo_id) 쌍을 Base64 URL-safe 문자열로 인코딩하여 클라이언트에 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PhotoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private String sortValue;
+    private Long photoId;
+
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명 문자열로 인코딩합니다.
+     *
+     * @return Base64 URL-safe 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = sortValue + DELIMITER + photoId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서 문자열
+     * @return 해석된 PhotoCursor 객체
+     */
+    public static PhotoCursor decode(
+            String cursor) {
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new PhotoCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+
+    /**
+     * 정렬 기준 값을 작성일시로 해석합니다.
+     *
+     * @return 작성일시
+     */
+    public LocalDateTime getSortValueAsDateTime() {
+
+        try {
+            return LocalDateTime.parse(sortValue);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+
+    /**
+     * 정렬 기준 값을 점수로 해석합니다.
+     *
+     * @return 점수
+     */
+    public Float getSortValueAsFloat() {
+
+        try {
+            return Float.parseFloat(sortValue);
+        } catch (NumberFormatException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+
+    /**
+     * 정렬 기준 값을 좋아요 수로 해석합니다.
+     *
+     * @return 좋아요 수
+     */
+    public int getSortValueAsInt() {
+
+        try {
+            return Integer.parseInt(sortValue);
+        } catch (NumberFormatException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.picscore.backend.photo.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.InputStream;
+
+/**
+ * S3 원본 다운로드 결과
+ * 본문은 S3 응답 스트림을 그대로 전달하며, 호출자가 전송 후 닫아야 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PhotoDownload {
+
+    private boolean notModified;    // If-None-Match가 현재 ETag와 일치 (본문 없음)
+    private boolean partial;        // Range 요청에 대한 부분 응답
+    private String eTag;
+    private Long contentLength;
+    private String contentRange;
+    private String contentType;
+    private InputStream inputStream;
+
+
+    /**
+     * 304 Not Modified 응답용 결과를 생성합니다.
+     *
+     * @param eTag 객체의 현재 ETag
+     * @return 본문 없는 다운로드 결과
+     */
+    public static PhotoDownload notModified(
+            String eTag) {
+
+        return new PhotoDownload(true, false, eTag, null, null, null, null);
+    }
+}
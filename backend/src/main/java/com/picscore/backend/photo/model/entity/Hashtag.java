@@ -18,7 +18,7 @@ public class Hashtag {
     @Column(name = "hashtag_id")
     private Long id;
 
-    @Column(name = "name", nullable = false)
+    @Column(name = "name", nullable = false, unique = true)
     private String name;
 
     public Hashtag(String hashtagName) {
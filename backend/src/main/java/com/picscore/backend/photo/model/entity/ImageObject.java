@@ -0,0 +1,48 @@
+package com.picscore.backend.photo.model.entity;
+
+import com.picscore.backend.common.model.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드된 이미지 원본 객체 (콘텐츠 해시 기준으로 중복 저장을 방지)
+ * 원본은 업로드 시점부터 permanent/{imageName} 한 곳에만 저장됩니다.
+ * refCount는 이 객체를 참조하는 사진/타임어택 수이며, committed는 한 번이라도 참조된 적이 있는지 나타냅니다.
+ * committed가 false인 채로 보관 기간(uploadedAt 기준)이 지나면 정리 작업이 S3 객체와 함께 삭제합니다.
+ * 직접 업로드 URL을 발급하면 contentHash 없이 먼저 등록(예약)하고, 업로드 완료를 확인한 뒤 contentHash를 채웁니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "image_object")
+public class ImageObject extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_object_id")
+    private Long id;
+
+    @Column(name = "content_hash", unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "image_name", nullable = false)
+    private String imageName;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount = 0;
+
+    @Column(name = "committed", nullable = false)
+    private boolean committed = false;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt;
+
+    public void decreaseRefCount() {
+        this.refCount--;
+    }
+}
@@ -10,8 +10,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "photo")
@@ -32,6 +34,9 @@ public class Photo extends BaseEntity {
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
     @Column(name = "score", nullable = false)
     private Float score;
 
@@ -41,6 +46,9 @@ public class Photo extends BaseEntity {
     @Column(name = "photo_type", nullable = false)
     private String photoType;
 
+    @Column(name = "like_count", nullable = false)
+    private int likeCount = 0;
+
     @Lob
     @Convert(converter = JsonMapConverter.class) // ✅ JSON 변환기 적용
     @Column(name = "analysis_chart",columnDefinition = "TEXT")
@@ -51,6 +59,11 @@ public class Photo extends BaseEntity {
     @Column(name = "analysis_text", columnDefinition = "Text") // ✅ JSON을 String으로 저장
     private Map<String, String> analysisText = new HashMap<>();
 
+    @Lob
+    @Convert(converter = JsonStringMapConverter.class)
+    @Column(name = "derivative_urls", columnDefinition = "TEXT") // 파생 이미지 실제 너비(px) -> URL
+    private Map<String, String> derivativeUrls = new HashMap<>();
+
     public Photo (User user, String imageUrl, Float score, Boolean isPublic, String photoType,
                   Map<String, Integer> analysisChart, Map<String, String> analysisText) {
         this.user = user;
@@ -61,4 +74,23 @@ public class Photo extends BaseEntity {
         this.analysisChart = analysisChart;
         this.analysisText = analysisText;
     }
+
+    public void updateDerivatives(String thumbnailUrl, Map<String, String> derivativeUrls) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.derivativeUrls = derivativeUrls;
+    }
+
+    /**
+     * 파생 이미지 URL을 srcset 형식("URL 너비w, ...")으로 변환합니다. (키는 실제 인코딩된 너비)
+     * 파생 이미지가 아직 생성되지 않았다면 null을 반환합니다.
+     */
+    public String buildSrcset() {
+        if (derivativeUrls == null || derivativeUrls.isEmpty()) {
+            return null;
+        }
+        return derivativeUrls.entrySet().stream()
+                .sorted(Comparator.comparingInt(entry -> Integer.parseInt(entry.getKey())))
+                .map(entry -> entry.getValue() + " " + entry.getKey() + "w")
+                .collect(Collectors.joining(", "));
+    }
 }
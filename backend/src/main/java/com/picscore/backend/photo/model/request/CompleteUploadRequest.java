@@ -0,0 +1,10 @@
+package com.picscore.backend.photo.model.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class CompleteUploadRequest {
+    private String imageName;
+}
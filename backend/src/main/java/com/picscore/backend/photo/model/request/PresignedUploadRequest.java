@@ -0,0 +1,12 @@
+package com.picscore.backend.photo.model.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PresignedUploadRequest {
+    private String contentType;
+    private Long size;
+    private String contentHash; // 파일 내용의 SHA-256 (16진수), S3가 업로드 시 검증
+}
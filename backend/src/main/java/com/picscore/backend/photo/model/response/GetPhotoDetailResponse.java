@@ -18,6 +18,7 @@ public class GetPhotoDetailResponse {
     // Photo 정보
     public Long photoId;
     public String imageUrl;
+    public String srcset;        // 파생 이미지 srcset (생성 전에는 null)
     public Float score;
     public Map<String, Integer> analysisChart; // JSON 형태로 저장된 데이터
 
@@ -42,6 +43,7 @@ public class GetPhotoDetailResponse {
         // Photo 정보 설정
         this.photoId = photo.getId();
         this.imageUrl = photo.getImageUrl();
+        this.srcset = photo.buildSrcset();
         this.score = photo.getScore();
         this.analysisChart = photo.getAnalysisChart();
         this.analysisText = photo.getAnalysisText();
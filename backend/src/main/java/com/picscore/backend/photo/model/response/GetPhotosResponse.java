@@ -6,10 +6,17 @@ import lombok.Data;
 public class GetPhotosResponse {
     private Long id;
     private String imageUrl;
+    private String srcset; // 파생 이미지 srcset (생성 전에는 null)
 
     public GetPhotosResponse(Long id, String imageUrl) {
         this.id = id;
         this.imageUrl = imageUrl;
     }
+
+    public GetPhotosResponse(Long id, String imageUrl, String srcset) {
+        this.id = id;
+        this.imageUrl = imageUrl;
+        this.srcset = srcset;
+    }
 }
 
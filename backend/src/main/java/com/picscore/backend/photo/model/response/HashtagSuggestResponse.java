@@ -0,0 +1,12 @@
+package com.picscore.backend.photo.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HashtagSuggestResponse {
+
+    private String name;
+    private long count;
+}
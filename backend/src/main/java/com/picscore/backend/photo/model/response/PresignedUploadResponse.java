@@ -0,0 +1,20 @@
+package com.picscore.backend.photo.model.response;
+
+import java.util.Map;
+
+public class PresignedUploadResponse {
+
+    public String uploadUrl; // 같은 콘텐츠가 이미 있으면 null (업로드 불필요)
+    public Map<String, String> headers; // PUT 요청 시 그대로 보내야 하는 서명된 헤더
+    public String imageUrl;
+    public String imageName;
+
+    public PresignedUploadResponse(String uploadUrl, Map<String, String> headers, String imageUrl, String imageName) {
+
+        this.uploadUrl = uploadUrl;
+        this.headers = headers;
+        this.imageUrl = imageUrl;
+        this.imageName = imageName;
+
+    }
+}
@@ -4,6 +4,8 @@ import com.picscore.backend.photo.model.entity.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,6 +22,15 @@ public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
      * @return 해당 이름을 가진 해시태그가 존재하면 Optional로 반환
      */
     Optional<Hashtag> findByName(String name);
+
+
+    /**
+     * 해시태그 이름 목록에 해당하는 해시태그를 한 번에 조회합니다.
+     *
+     * @param names 해시태그 이름 목록
+     * @return 존재하는 해시태그 목록
+     */
+    List<Hashtag> findByNameIn(Collection<String> names);
 }
 
 
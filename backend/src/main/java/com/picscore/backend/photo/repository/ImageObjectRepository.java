@@ -0,0 +1,160 @@
+package com.picscore.backend.photo.repository;
+
+import com.picscore.backend.photo.model.entity.ImageObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 원본 객체(콘텐츠 해시 인덱스) 관련 DB 작업을 처리하는 Repository
+ */
+@Repository
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+
+    /**
+     * 콘텐츠 해시로 이미지 객체를 조회합니다.
+     *
+     * @param contentHash SHA-256 해시 (16진수 문자열)
+     * @return 해당 해시의 이미지 객체
+     */
+    Optional<ImageObject> findByContentHash(String contentHash);
+
+
+    /**
+     * 파일명으로 이미지 객체를 조회합니다.
+     *
+     * @param imageName 이미지 파일명
+     * @return 해당 파일명의 이미지 객체
+     */
+    Optional<ImageObject> findByImageName(String imageName);
+
+
+    /**
+     * 참조 수를 변경하기 위해 이미지 객체를 잠금과 함께 조회합니다.
+     *
+     * @param imageName 이미지 파일명
+     * @return 해당 파일명의 이미지 객체
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM ImageObject i WHERE i.imageName = :imageName")
+    Optional<ImageObject> findByImageNameForUpdate(@Param("imageName") String imageName);
+
+
+    /**
+     * 이미지 객체를 등록합니다. 같은 해시가 이미 등록되어 있다면 무시합니다.
+     *
+     * @param contentHash SHA-256 해시
+     * @param imageName 이미지 파일명
+     * @param size 파일 크기(byte)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO image_object (content_hash, image_name, size, ref_count, committed, uploaded_at, created_at) " +
+            "VALUES (:contentHash, :imageName, :size, 0, false, NOW(), NOW())", nativeQuery = true)
+    void insertIgnore(
+            @Param("contentHash") String contentHash, @Param("imageName") String imageName, @Param("size") long size);
+
+
+    /**
+     * 직접 업로드 URL을 발급한 이미지 객체를 콘텐츠 해시 없이 예약합니다.
+     * 업로드가 완료되지 않더라도 커밋되지 않은 객체로 남아 정리 작업의 대상이 됩니다.
+     *
+     * @param imageName 이미지 파일명
+     * @param size 파일 크기(byte)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_object (content_hash, image_name, size, ref_count, committed, uploaded_at, created_at) " +
+            "VALUES (NULL, :imageName, :size, 0, false, NOW(), NOW())", nativeQuery = true)
+    void insertReserved(@Param("imageName") String imageName, @Param("size") long size);
+
+
+    /**
+     * 예약된 이미지 객체에 콘텐츠 해시를 설정합니다. 같은 해시가 이미 등록되어 있다면 무시합니다.
+     *
+     * @param imageName 이미지 파일명
+     * @param contentHash SHA-256 해시
+     * @return 갱신된 행 수 (예약이 없거나 같은 해시가 이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE IGNORE image_object SET content_hash = :contentHash, uploaded_at = NOW() " +
+            "WHERE image_name = :imageName AND content_hash IS NULL", nativeQuery = true)
+    int assignContentHash(@Param("imageName") String imageName, @Param("contentHash") String contentHash);
+
+
+    /**
+     * 콘텐츠 해시가 설정되지 않은 예약을 삭제합니다.
+     *
+     * @param imageName 이미지 파일명
+     */
+    @Modifying
+    @Query("DELETE FROM ImageObject i WHERE i.imageName = :imageName AND i.contentHash IS NULL")
+    void deleteReserved(@Param("imageName") String imageName);
+
+
+    /**
+     * 참조 수를 1 증가시키고 커밋된 상태로 표시합니다. 업로드 완료가 확인되지 않은 예약은 제외합니다.
+     *
+     * @param imageName 이미지 파일명
+     * @return 갱신된 행 수 (등록되지 않았거나 이미 정리된 이미지면 0)
+     */
+    @Modifying
+    @Query("UPDATE ImageObject i SET i.refCount = i.refCount + 1, i.committed = true " +
+            "WHERE i.imageName = :imageName AND i.contentHash IS NOT NULL")
+    int increaseRefCount(@Param("imageName") String imageName);
+
+
+    /**
+     * 커밋되지 않은 이미지를 재사용할 때 보관 기간을 다시 시작합니다.
+     *
+     * @param imageName 이미지 파일명
+     */
+    @Modifying
+    @Query("UPDATE ImageObject i SET i.uploadedAt = CURRENT_TIMESTAMP WHERE i.imageName = :imageName AND i.committed = false")
+    void touch(@Param("imageName") String imageName);
+
+
+    /**
+     * 보관 기간이 지난 커밋되지 않은 이미지 객체를 조회합니다.
+     *
+     * @param cutoff 이 시각 이전에 업로드된 객체가 대상
+     * @param pageable 조회 개수
+     * @return 정리 대상 이미지 객체 목록
+     */
+    @Query("SELECT i FROM ImageObject i WHERE i.committed = false AND i.uploadedAt < :cutoff ORDER BY i.id")
+    List<ImageObject> findExpiredUncommitted(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+
+    /**
+     * 커밋되지 않은 이미지 객체를 삭제합니다. 그사이 사진 저장으로 커밋되었다면 삭제하지 않습니다.
+     *
+     * @param id 이미지 객체 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM ImageObject i WHERE i.id = :id AND i.committed = false")
+    int deleteIfUncommitted(@Param("id") Long id);
+
+
+    /**
+     * S3 삭제에 실패한 이미지 객체를 콘텐츠 해시 없이 다시 등록합니다.
+     * 기존 업로드 시각을 유지하므로 다음 정리 작업에서 다시 삭제를 시도하며, 해시로 조회되거나 커밋되지 않습니다.
+     *
+     * @param imageName 이미지 파일명
+     * @param size 파일 크기(byte)
+     * @param uploadedAt 기존 업로드 시각
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO image_object (content_hash, image_name, size, ref_count, committed, uploaded_at, created_at) " +
+            "VALUES (NULL, :imageName, :size, 0, false, :uploadedAt, NOW())", nativeQuery = true)
+    void restoreForSweep(
+            @Param("imageName") String imageName, @Param("size") long size, @Param("uploadedAt") LocalDateTime uploadedAt);
+}
@@ -23,5 +23,33 @@ public interface PhotoHashtagRepository extends JpaRepository<PhotoHashtag, Long
      * @return 해당 사진에 연결된 해시태그 목록
      */
     List<PhotoHashtag> findByPhotoId(Long photoId);
+
+
+    /**
+     * 해시태그 검색 색인 구성을 위해 전체 사진-해시태그 매핑을 조회합니다.
+     *
+     * @return [사진 ID, 해시태그 이름, 공개 여부, 점수] 목록
+     */
+    @Query("SELECT ph.photo.id, h.name, p.isPublic, p.score FROM PhotoHashtag ph JOIN ph.hashtag h JOIN ph.photo p")
+    List<Object[]> findAllForIndex();
+
+
+    /**
+     * 해시태그 자동완성 트라이 구성을 위해 공개 사진의 해시태그별 사용 횟수를 조회합니다.
+     *
+     * @return [해시태그 이름, 사용 횟수] 목록
+     */
+    @Query("SELECT h.name, COUNT(ph) FROM PhotoHashtag ph JOIN ph.hashtag h JOIN ph.photo p WHERE p.isPublic = true GROUP BY h.name")
+    List<Object[]> countByHashtagName();
+
+
+    /**
+     * 특정 사진에 연결된 해시태그 이름 목록을 조회합니다.
+     *
+     * @param photoId 조회할 사진의 ID
+     * @return 해시태그 이름 목록
+     */
+    @Query("SELECT h.name FROM PhotoHashtag ph JOIN ph.hashtag h WHERE ph.photo.id = :photoId")
+    List<String> findHashtagNamesByPhotoId(@Param("photoId") Long photoId);
 }
 
@@ -36,6 +36,16 @@ public interface PhotoLikeRepository extends JpaRepository<PhotoLike, Long> {
     Optional<PhotoLike> findByPhotoIdAndUserId(Long photoId, Long userId);
 
 
+    /**
+     * 특정 사진에 좋아요를 누른 유저 ID 목록을 조회합니다.
+     *
+     * @param photoId 사진 ID
+     * @return 유저 ID 리스트
+     */
+    @Query("SELECT pl.user.id FROM PhotoLike pl WHERE pl.photo.id = :photoId")
+    List<Long> findUserIdsByPhotoId(@Param("photoId") Long photoId);
+
+
     /**
      * 특정 유저가 특정 사진을 좋아요 했는지 여부를 확인합니다.
      *
@@ -1,7 +1,6 @@
 package com.picscore.backend.photo.repository;
 
 import com.picscore.backend.photo.model.entity.Photo;
-import com.picscore.backend.photo.model.response.GetPhotosResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,8 +11,10 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 사진 관련 DB 작업을 처리하는 Repository
@@ -22,20 +23,6 @@ import java.util.Map;
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
 
-    /**
-     * 특정 해시태그를 포함하며 공개된 사진을 검색합니다.
-     *
-     * @param keyword 해시태그 키워드
-     * @return 검색된 사진 리스트
-     */
-    @Query("SELECT new com.picscore.backend.photo.model.response.GetPhotosResponse(p.id, p.imageUrl) " +
-            "FROM Photo p " +
-            "JOIN PhotoHashtag ph ON p.id = ph.photo.id " +
-            "JOIN Hashtag h ON ph.hashtag.id = h.id " +
-            "WHERE h.name LIKE CONCAT('%', :keyword, '%') AND p.isPublic = true")
-    List<GetPhotosResponse> findPhotosByHashtagName(@Param("keyword") String keyword);
-
-
     /**
      * 특정 유저의 사진 중 공개 여부 조건에 맞는 사진을 최신순으로 조회합니다.
      *
@@ -67,8 +54,61 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     Page<Photo> findAllWithPublic(Pageable pageable);
 
 
+    /**
+     * 공개된 사진을 최신순으로 첫 페이지만큼 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param pageable 조회 개수 정보
+     * @return 공개 사진 리스트
+     */
+    @Query("SELECT p FROM Photo p WHERE p.isPublic = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPublicLatest(Pageable pageable);
+
+
+    /**
+     * 커서(작성일시, 사진 ID) 이후의 공개 사진을 최신순으로 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param createdAt 커서의 작성일시
+     * @param id 커서의 사진 ID
+     * @param pageable 조회 개수 정보
+     * @return 공개 사진 리스트
+     */
+    @Query("SELECT p FROM Photo p " +
+            "WHERE p.isPublic = true " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPublicLatestAfter(
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+
+    /**
+     * 공개된 사진을 점수순으로 첫 페이지만큼 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param pageable 조회 개수 정보
+     * @return 공개 사진 리스트
+     */
+    @Query("SELECT p FROM Photo p WHERE p.isPublic = true ORDER BY p.score DESC, p.id DESC")
+    List<Photo> findPublicScore(Pageable pageable);
+
+
+    /**
+     * 커서(점수, 사진 ID) 이후의 공개 사진을 점수순으로 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param score 커서의 점수
+     * @param id 커서의 사진 ID
+     * @param pageable 조회 개수 정보
+     * @return 공개 사진 리스트
+     */
+    @Query("SELECT p FROM Photo p " +
+            "WHERE p.isPublic = true " +
+            "AND (p.score < :score OR (p.score = :score AND p.id < :id)) " +
+            "ORDER BY p.score DESC, p.id DESC")
+    List<Photo> findPublicScoreAfter(
+            @Param("score") Float score, @Param("id") Long id, Pageable pageable);
+
+
     /**
      * 좋아요 수를 기준으로 공개 사진을 내림차순 정렬하여 조회합니다.
+     * 비정규화된 like_count 컬럼을 사용하므로 photo_like 집계 없이 인덱스 범위 탐색으로 처리됩니다.
      *
      * @param pageable 페이지 정보
      * @return 좋아요 많은 순으로 정렬된 사진 페이지
@@ -76,19 +116,93 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     @Query(
             value = """
         SELECT p FROM Photo p
-        LEFT JOIN PhotoLike pl ON pl.photo.id = p.id
         WHERE p.isPublic = true
-        GROUP BY p
-        ORDER BY COUNT(pl) DESC
+        ORDER BY p.likeCount DESC, p.id DESC
     """,
             countQuery = """
-        SELECT COUNT(DISTINCT p) FROM Photo p
+        SELECT COUNT(p) FROM Photo p
         WHERE p.isPublic = true AND p.photoType = 'article'
     """
     )
     Page<Photo> findAllOrderByLikeCount(Pageable pageable);
 
 
+    /**
+     * 공개된 사진을 좋아요 순으로 첫 페이지만큼 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param pageable 조회 개수 정보
+     * @return 공개 사진 리스트
+     */
+    @Query("SELECT p FROM Photo p WHERE p.isPublic = true ORDER BY p.likeCount DESC, p.id DESC")
+    List<Photo> findPublicLike(Pageable pageable);
+
+
+    /**
+     * 커서(좋아요 수, 사진 ID) 이후의 공개 사진을 좋아요 순으로 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param likeCount 커서의 좋아요 수
+     * @param id 커서의 사진 ID
+     * @param pageable 조회 개수 정보
+     * @return 공개 사진 리스트
+     */
+    @Query("SELECT p FROM Photo p " +
+            "WHERE p.isPublic = true " +
+            "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id)) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<Photo> findPublicLikeAfter(
+            @Param("likeCount") int likeCount, @Param("id") Long id, Pageable pageable);
+
+
+    /**
+     * 같은 원본 이미지를 사용하며 파생 이미지가 생성된 사진을 하나 조회합니다.
+     *
+     * @param imageUrl 원본 이미지 URL
+     * @return 파생 이미지가 있는 사진
+     */
+    Optional<Photo> findFirstByImageUrlAndThumbnailUrlIsNotNull(String imageUrl);
+
+
+    /**
+     * 같은 원본 이미지를 사용하며 아직 파생 이미지가 없는 사진 ID를 조회합니다.
+     *
+     * @param imageUrl 원본 이미지 URL
+     * @return 사진 ID 목록
+     */
+    @Query("SELECT p.id FROM Photo p WHERE p.imageUrl = :imageUrl AND p.thumbnailUrl IS NULL")
+    List<Long> findIdsByImageUrlAndThumbnailUrlIsNull(@Param("imageUrl") String imageUrl);
+
+
+    /**
+     * 특정 사진의 썸네일 URL과 파생 이미지 URL만 설정합니다.
+     * 다른 컬럼은 건드리지 않으므로 작업 도중 변경된 공개 여부, 좋아요 수 등을 덮어쓰지 않습니다.
+     *
+     * @param id 사진 ID
+     * @param thumbnailUrl 썸네일 URL
+     * @param derivativeUrls 너비(px) -> 파생 이미지 URL
+     * @return 갱신된 사진 개수 (사진이 삭제되었다면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Photo p SET p.thumbnailUrl = :thumbnailUrl, p.derivativeUrls = :derivativeUrls WHERE p.id = :id")
+    int updateDerivatives(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("derivativeUrls") Map<String, String> derivativeUrls);
+
+
+    /**
+     * photo_like 테이블을 기준으로 like_count 값이 어긋난 사진을 보정합니다.
+     *
+     * @return 보정된 사진 개수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE photo p " +
+            "LEFT JOIN (SELECT photo_id, COUNT(*) AS cnt FROM photo_like GROUP BY photo_id) pl " +
+            "ON pl.photo_id = p.photo_id " +
+            "SET p.like_count = COALESCE(pl.cnt, 0) " +
+            "WHERE p.like_count <> COALESCE(pl.cnt, 0)", nativeQuery = true)
+    int reconcileLikeCount();
+
+
     /**
      * 특정 사진의 공개 여부를 토글합니다.
      *
@@ -101,19 +215,17 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
 
     /**
-     * 공개된 사진 중 좋아요 수가 많은 순으로 정렬하여 최대 5개의 사진과 좋아요 수를 반환합니다.
+     * 공개된 사진 중 좋아요 수가 많은 순으로 정렬하여 최대 5개의 사진을 반환합니다.
      * 동점일 경우 최신순으로 정렬합니다.
      *
      * @param pageable 페이지 정보
-     * @return 사진과 좋아요 수 목록
+     * @return 사진 목록
      */
-    @Query("SELECT p, COUNT(pl) " +
+    @Query("SELECT p " +
             "FROM Photo p " +
-            "LEFT JOIN PhotoLike pl ON p.id = pl.photo.id " +
             "WHERE p.isPublic = true " +
-            "GROUP BY p.id " +
-            "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
-    List<Object[]> findTop5PhotosWithLikeCount(Pageable pageable);
+            "ORDER BY p.likeCount DESC, p.createdAt DESC")
+    List<Photo> findTop5PhotosWithLikeCount(Pageable pageable);
 
 
     /**
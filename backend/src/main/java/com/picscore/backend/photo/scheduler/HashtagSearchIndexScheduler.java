@@ -0,0 +1,55 @@
+package com.picscore.backend.photo.scheduler;
+
+import com.picscore.backend.photo.search.HashtagSearchIndex;
+import com.picscore.backend.photo.search.HashtagSuggestTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시태그 검색 색인과 자동완성 트라이를 적재하고 주기적으로 다시 구성하는 스케줄러
+ * 다른 서버 인스턴스에서 발생한 사진 변경과 삭제로 줄어든 사용 횟수는 재구성 시점에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagSearchIndexScheduler {
+
+    private final HashtagSearchIndex hashtagSearchIndex;
+    private final HashtagSuggestTrie hashtagSuggestTrie;
+
+
+    /**
+     * 서버 시작 시 DB에서 색인과 트라이를 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        rebuild();
+    }
+
+
+    /**
+     * 색인과 트라이를 DB 기준으로 다시 구성합니다.
+     */
+    @Scheduled(initialDelayString = "${photo.hashtag-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${photo.hashtag-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+
+        try {
+            hashtagSearchIndex.rebuild();
+        } catch (Exception e) {
+            // 실패하면 기존 색인을 그대로 사용
+            log.error("해시태그 검색 색인 구성 실패: {}", e.getMessage(), e);
+        }
+
+        try {
+            hashtagSuggestTrie.rebuild();
+        } catch (Exception e) {
+            log.error("해시태그 자동완성 트라이 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.picscore.backend.photo.scheduler;
+
+import com.picscore.backend.photo.service.ImageObjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장되지 않은 업로드 이미지를 정리하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageObjectScheduler {
+
+    private final ImageObjectService imageObjectService;
+
+
+    /**
+     * 보관 기간이 지난 커밋되지 않은 업로드 이미지와 이전 방식의 temp 객체를 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.upload.sweep-interval-ms:3600000}")
+    public void sweep() {
+
+        try {
+            imageObjectService.sweepUncommitted();
+        } catch (Exception e) {
+            // 정리되지 않은 객체는 다음 실행에서 다시 대상이 됨
+            log.error("미사용 업로드 이미지 정리 실패: {}", e.getMessage(), e);
+        }
+
+        try {
+            imageObjectService.sweepLegacyTemp();
+        } catch (Exception e) {
+            log.error("temp 폴더 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
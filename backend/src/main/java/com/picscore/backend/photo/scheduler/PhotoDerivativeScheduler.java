@@ -0,0 +1,49 @@
+package com.picscore.backend.photo.scheduler;
+
+import com.picscore.backend.photo.service.PhotoDerivativeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사진 파생 이미지 생성 대기열을 주기적으로 처리하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoDerivativeScheduler {
+
+    private final PhotoDerivativeService photoDerivativeService;
+
+
+    /**
+     * 서버 시작 시와 주기적으로, 중단된 인스턴스가 처리하던 작업을 대기열로 되돌립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${worker.recover-interval-ms:60000}", fixedDelayString = "${worker.recover-interval-ms:60000}")
+    public void recoverInFlightJobs() {
+
+        try {
+            photoDerivativeService.recoverInFlightJobs();
+        } catch (Exception e) {
+            log.error("중단된 파생 이미지 작업 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * 대기열의 작업을 워커에 배분합니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.derivative.poll-interval-ms:500}")
+    public void dispatchPendingJobs() {
+
+        try {
+            photoDerivativeService.dispatchPendingJobs();
+        } catch (Exception e) {
+            log.error("파생 이미지 작업 배분 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.picscore.backend.photo.scheduler;
+
+import com.picscore.backend.photo.repository.PhotoRepository;
+import com.picscore.backend.photo.service.PhotoLikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사진 좋아요 수와 관련된 주기 작업을 처리하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoLikeScheduler {
+
+    private final PhotoRepository photoRepository;
+    private final PhotoLikeService photoLikeService;
+
+
+    /**
+     * Redis에 쌓인 좋아요 변경 사항을 MySQL에 일괄 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.like.flush-interval-ms:5000}")
+    public void flushPendingLikes() {
+
+        try {
+            photoLikeService.flushPendingLikes();
+        } catch (Exception e) {
+            // 반영 중인 데이터는 Redis에 남아 있으므로 다음 실행에서 재처리됨
+            log.error("좋아요 변경 사항 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * photo.like_count 값을 photo_like 테이블 기준으로 재계산하여 어긋난 값을 보정합니다.
+     * 매일 새벽 4시(서버 시간 기준)에 실행됩니다.
+     */
+    @Scheduled(cron = "${photo.like.reconcile-cron:0 0 4 * * *}")
+    public void reconcileLikeCount() {
+
+        int updated = photoRepository.reconcileLikeCount();
+
+        if (updated > 0) {
+            log.info("like_count 보정 완료: {}건", updated);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.picscore.backend.photo.scheduler;
+
+import com.picscore.backend.common.storage.S3DeletionQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사진/프로필 이미지 S3 삭제 대기열을 주기적으로 처리하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionScheduler {
+
+    private final S3DeletionQueue s3DeletionQueue;
+
+
+    /**
+     * 서버 시작 시와 주기적으로, 중단된 인스턴스가 삭제 요청 중이던 키를 대기열로 되돌립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${worker.recover-interval-ms:60000}", fixedDelayString = "${worker.recover-interval-ms:60000}")
+    public void recoverInFlight() {
+
+        try {
+            s3DeletionQueue.recoverInFlight();
+        } catch (Exception e) {
+            log.error("중단된 S3 삭제 요청 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * 대기열에 쌓인 S3 키를 일괄 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.deletion.flush-interval-ms:10000}")
+    public void flush() {
+
+        try {
+            s3DeletionQueue.flush();
+        } catch (Exception e) {
+            // 삭제하지 못한 키는 대기열에 남아 다음 실행에서 재처리됨
+            log.error("S3 객체 일괄 삭제 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.picscore.backend.photo.search;
+
+import com.picscore.backend.common.search.RebuildableIndex;
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.photo.repository.PhotoHashtagRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 해시태그 이름으로 공개 사진을 찾는 메모리 내 역색인
+ *
+ * 해시태그 이름을 3글자 단위(trigram)로 나누어 trigram -> 해시태그 ID 포스팅 리스트를 만들고,
+ * 해시태그마다 공개 사진 ID 포스팅 리스트(정렬된 long 배열)를 유지합니다.
+ * 검색어의 trigram 포스팅을 교집합하여 후보 해시태그를 찾은 뒤 부분 문자열 일치를 확인하므로
+ * LIKE '%keyword%' 와 같은 결과를 DB 조회 없이 반환합니다. (3글자 미만 검색어는 해시태그 이름을 직접 비교)
+ * 결과는 페이지 크기만큼의 힙으로 상위 항목만 골라내므로 정렬 비용이 일치한 사진 수가 아닌 페이지 크기에 비례합니다.
+ *
+ * 서버 시작 시 전체를 적재하고, 사진 저장/삭제/공개 여부 변경은 트랜잭션 커밋 후 증분 반영합니다.
+ * 다른 서버 인스턴스에서 발생한 변경은 주기적인 재구성(rebuild)으로 반영됩니다.
+ */
+@Slf4j
+@Component
+public class HashtagSearchIndex extends RebuildableIndex<HashtagSearchIndex.State> {
+
+    private static final int GRAM = 3;
+
+    private final PhotoHashtagRepository photoHashtagRepository;
+
+
+    // 일치 수준 (사진에 달린 해시태그 중 가장 잘 일치한 것 기준)
+    public static final int EXACT = 3;
+    public static final int PREFIX = 2;
+    public static final int CONTAINS = 1;
+
+
+    /**
+     * 검색 결과 항목 (정렬 위치를 나타내므로 커서로도 사용)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private long photoId;
+        private int level;
+        private float score;
+    }
+
+
+    /**
+     * 검색 결과 한 페이지
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private List<Hit> hits;
+        private int total;
+        private boolean hasNext;
+    }
+
+
+    /**
+     * 색인 데이터 (잠금 안에서만 접근)
+     */
+    static class State {
+        // 해시태그 이름(정규화) -> 내부 ID, 내부 ID -> 이름
+        private final Map<String, Integer> tagIdByName = new HashMap<>();
+        private final List<String> tagNames = new ArrayList<>();
+        // trigram -> 해시태그 ID
+        private final Map<String, PostingList> tagsByTrigram = new HashMap<>();
+        // 해시태그 ID -> 공개 사진 ID
+        private final List<PostingList> publicPhotosByTag = new ArrayList<>();
+        // 사진 ID -> 해시태그 ID (비공개 사진 포함, 공개 여부 변경/삭제 시 사용)
+        private final Map<Long, int[]> tagsByPhoto = new HashMap<>();
+        // 사진 ID -> 점수 (점수순 정렬용)
+        private final Map<Long, Float> scoreByPhoto = new HashMap<>();
+    }
+
+
+    public HashtagSearchIndex(
+            PhotoHashtagRepository photoHashtagRepository, TransactionUtil transactionUtil) {
+        super(transactionUtil, State::new);
+        this.photoHashtagRepository = photoHashtagRepository;
+    }
+
+
+    /**
+     * DB의 전체 사진-해시태그 매핑으로 색인을 다시 만듭니다.
+     * 재구성 중에 반영된 증분 변경은 교체 직전에 새 색인에 다시 적용합니다. (변경은 모두 여러 번 적용해도 결과가 같음)
+     */
+    public void rebuild() {
+
+        State rebuilt = rebuild(current -> {
+            Map<Long, List<String>> namesByPhoto = new HashMap<>();
+            Map<Long, Boolean> visibility = new HashMap<>();
+            Map<Long, Float> scores = new HashMap<>();
+
+            for (Object[] row : photoHashtagRepository.findAllForIndex()) {
+                Long photoId = (Long) row[0];
+                namesByPhoto.computeIfAbsent(photoId, key -> new ArrayList<>()).add((String) row[1]);
+                visibility.put(photoId, Boolean.TRUE.equals(row[2]));
+                scores.put(photoId, (Float) row[3]);
+            }
+            namesByPhoto.forEach((photoId, names) ->
+                    addPhoto(current, photoId, names, visibility.get(photoId), scores.get(photoId)));
+        });
+
+        log.info("해시태그 검색 색인 구성 완료: 해시태그 {}개, 사진 {}개", rebuilt.tagNames.size(), rebuilt.tagsByPhoto.size());
+    }
+
+
+    /**
+     * 사진의 해시태그를 색인에 추가합니다. (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param photoId 사진 ID
+     * @param hashtags 해시태그 이름 목록
+     * @param isPublic 공개 여부
+     * @param score 사진 점수
+     */
+    public void addPhoto(
+            Long photoId, Collection<String> hashtags, boolean isPublic, Float score) {
+
+        writeAfterCommit(current -> addPhoto(current, photoId, hashtags, isPublic, score));
+    }
+
+
+    /**
+     * 사진을 색인에서 제거합니다. (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param photoId 사진 ID
+     */
+    public void removePhoto(
+            Long photoId) {
+
+        writeAfterCommit(current -> {
+            int[] tagIds = current.tagsByPhoto.remove(photoId);
+            current.scoreByPhoto.remove(photoId);
+            if (tagIds == null) {
+                return;
+            }
+            for (int tagId : tagIds) {
+                current.publicPhotosByTag.get(tagId).remove(photoId);
+            }
+        });
+    }
+
+
+    /**
+     * 사진의 공개 여부 변경을 색인에 반영합니다. (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param photoId 사진 ID
+     * @param isPublic 변경된 공개 여부
+     */
+    public void updateVisibility(
+            Long photoId, boolean isPublic) {
+
+        writeAfterCommit(current -> {
+            int[] tagIds = current.tagsByPhoto.get(photoId);
+            if (tagIds == null) {
+                return;
+            }
+            for (int tagId : tagIds) {
+                if (isPublic) {
+                    current.publicPhotosByTag.get(tagId).add(photoId);
+                } else {
+                    current.publicPhotosByTag.get(tagId).remove(photoId);
+                }
+            }
+        });
+    }
+
+
+    /**
+     * 검색어를 포함하는 해시태그가 달린 공개 사진을 관련도 순으로 조회합니다.
+     * 완전 일치, 접두 일치, 부분 일치 순으로 정렬하고, 같은 수준 안에서는 최신순(ID가 큰 순) 또는 점수순으로 정렬합니다.
+     *
+     * @param keyword 검색어
+     * @param byScore 같은 일치 수준 안에서 점수순으로 정렬할지 여부 (false면 최신순)
+     * @param after 이전 페이지의 마지막 항목 (첫 페이지 또는 오프셋 조회는 null)
+     * @param offset 건너뛸 결과 수 (offset + limit 크기의 힙을 사용하므로 호출자가 상한을 두어야 함)
+     * @param limit 조회할 결과 수
+     * @return 결과 항목, 전체 결과 수, 다음 페이지 존재 여부
+     */
+    public SearchResult search(
+            String keyword, boolean byScore, Hit after, int offset, int limit) {
+
+        if (offset < 0 || limit < 1 || offset > Integer.MAX_VALUE - limit - 1) {
+            throw new IllegalArgumentException("잘못된 조회 범위입니다: offset=" + offset + ", limit=" + limit);
+        }
+
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return new SearchResult(List.of(), 0, false);
+        }
+
+        Comparator<Hit> order = order(byScore);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 보관
+        int keep = offset + limit + 1;
+        // 가장 뒤에 올 항목이 맨 위에 오는 힙
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(keep, 1024), order.reversed());
+
+        int total = read(current -> {
+            Map<Long, Integer> levels = new HashMap<>();
+            for (int tagId : matchTags(current, normalized)) {
+                String name = current.tagNames.get(tagId);
+                int level = name.equals(normalized) ? EXACT : name.startsWith(normalized) ? PREFIX : CONTAINS;
+
+                PostingList photos = current.publicPhotosByTag.get(tagId);
+                for (int i = 0; i < photos.size(); i++) {
+                    levels.merge(photos.get(i), level, Math::max);
+                }
+            }
+
+            for (Map.Entry<Long, Integer> entry : levels.entrySet()) {
+                Float score = current.scoreByPhoto.get(entry.getKey());
+                Hit hit = new Hit(entry.getKey(), entry.getValue(), score == null ? 0f : score);
+                if (after != null && order.compare(hit, after) <= 0) {
+                    continue;
+                }
+                if (top.size() < keep) {
+                    top.add(hit);
+                } else if (order.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+            return levels.size();
+        });
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(order);
+
+        int from = Math.min(offset, ranked.size());
+        int to = Math.min(from + limit, ranked.size());
+        return new SearchResult(List.copyOf(ranked.subList(from, to)), total, ranked.size() > to);
+    }
+
+
+    /**
+     * 결과 정렬 순서 (일치 수준 내림차순, 점수 내림차순(점수순일 때), 사진 ID 내림차순)
+     */
+    private Comparator<Hit> order(
+            boolean byScore) {
+
+        Comparator<Hit> order = Comparator.comparingInt(Hit::getLevel).reversed();
+        if (byScore) {
+            order = order.thenComparing(Comparator.comparingDouble(Hit::getScore).reversed());
+        }
+        return order.thenComparing(Comparator.comparingLong(Hit::getPhotoId).reversed());
+    }
+
+
+    /**
+     * 정규화된 검색어를 부분 문자열로 포함하는 해시태그 ID 목록을 반환합니다.
+     */
+    private List<Integer> matchTags(
+            State current, String normalized) {
+
+        List<Integer> matched = new ArrayList<>();
+
+        if (normalized.length() < GRAM) {
+            for (int tagId = 0; tagId < current.tagNames.size(); tagId++) {
+                if (current.tagNames.get(tagId).contains(normalized)) {
+                    matched.add(tagId);
+                }
+            }
+            return matched;
+        }
+
+        // trigram 포스팅 중 짧은 것부터 교집합
+        List<PostingList> postings = new ArrayList<>();
+        for (String trigram : trigrams(normalized)) {
+            PostingList posting = current.tagsByTrigram.get(trigram);
+            if (posting == null) {
+                return matched;
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList candidates = postings.get(0);
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.intersect(postings.get(i));
+        }
+
+        // trigram이 모두 있어도 순서가 다를 수 있으므로 부분 문자열 확인
+        for (int i = 0; i < candidates.size(); i++) {
+            int tagId = (int) candidates.get(i);
+            if (current.tagNames.get(tagId).contains(normalized)) {
+                matched.add(tagId);
+            }
+        }
+
+        return matched;
+    }
+
+
+    private void addPhoto(
+            State current, Long photoId, Collection<String> hashtags, boolean isPublic, Float score) {
+
+        Set<Integer> tagIds = new LinkedHashSet<>();
+        int[] existing = current.tagsByPhoto.get(photoId);
+        if (existing != null) {
+            Arrays.stream(existing).forEach(tagIds::add);
+        }
+
+        for (String hashtag : hashtags) {
+            String normalized = normalize(hashtag);
+            if (!normalized.isEmpty()) {
+                tagIds.add(tagId(current, normalized));
+            }
+        }
+
+        current.tagsByPhoto.put(photoId, tagIds.stream().mapToInt(Integer::intValue).toArray());
+        if (score != null) {
+            current.scoreByPhoto.put(photoId, score);
+        }
+        if (isPublic) {
+            tagIds.forEach(tagId -> current.publicPhotosByTag.get(tagId).add(photoId));
+        }
+    }
+
+
+    /**
+     * 해시태그의 내부 ID를 반환합니다. 처음 보는 해시태그면 등록하고 trigram 포스팅에 추가합니다.
+     */
+    private int tagId(
+            State current, String normalized) {
+
+        Integer existing = current.tagIdByName.get(normalized);
+        if (existing != null) {
+            return existing;
+        }
+
+        int tagId = current.tagNames.size();
+        current.tagIdByName.put(normalized, tagId);
+        current.tagNames.add(normalized);
+        current.publicPhotosByTag.add(new PostingList());
+
+        for (String trigram : trigrams(normalized)) {
+            current.tagsByTrigram.computeIfAbsent(trigram, key -> new PostingList()).add(tagId);
+        }
+
+        return tagId;
+    }
+
+
+    private Set<String> trigrams(
+            String text) {
+
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM));
+        }
+        return trigrams;
+    }
+
+
+    private String normalize(
+            String text) {
+
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,302 @@
+package com.picscore.backend.photo.search;
+
+import com.picscore.backend.common.search.RebuildableIndex;
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.photo.repository.PhotoHashtagRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 해시태그 자동완성을 위한 접두사 트라이
+ *
+ * 노드마다 자식 문자를 정렬된 char 배열로 보관하고, 해당 접두사로 시작하는 해시태그 중 사용 횟수 상위 MAX_SUGGESTIONS개의 ID를 미리 계산해 둡니다.
+ * 따라서 조회는 접두사 길이만큼 노드를 내려가 저장된 목록을 읽는 것으로 끝나며 해시태그 수와 무관합니다.
+ *
+ * 사용 횟수는 공개 사진에 달린 해시태그만 셉니다. 공개 사진 저장 시 커밋 후 사용 횟수를 올리고,
+ * 공개 사진 삭제와 비공개 전환 시 내리며, 경로상의 상위 목록을 갱신합니다.
+ * 다른 서버 인스턴스의 변경은 주기적인 재구성(rebuild)으로 반영됩니다.
+ */
+@Slf4j
+@Component
+public class HashtagSuggestTrie extends RebuildableIndex<HashtagSuggestTrie.State> {
+
+    // 노드마다 보관하는 상위 해시태그 수 (조회 가능한 최대 개수)
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final PhotoHashtagRepository photoHashtagRepository;
+
+
+    /**
+     * 자동완성 결과 항목
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private String name;
+        private long count;
+    }
+
+
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        // 이 노드에서 끝나는 해시태그 ID (없으면 -1)
+        private int tagId = -1;
+        // 이 접두사로 시작하는 해시태그 ID (사용 횟수 내림차순)
+        private int[] top = new int[0];
+
+        private Node child(
+                char label) {
+
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(
+                char label) {
+
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node created = new Node();
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = created;
+            labels = newLabels;
+            children = newChildren;
+
+            return created;
+        }
+    }
+
+
+    /**
+     * 트라이 데이터 (잠금 안에서만 접근)
+     */
+    static class State {
+        private final Node root = new Node();
+        private final Map<String, Integer> tagIdByName = new HashMap<>();
+        private final List<String> tagNames = new ArrayList<>();
+        private long[] counts = new long[16];
+    }
+
+
+    public HashtagSuggestTrie(
+            PhotoHashtagRepository photoHashtagRepository, TransactionUtil transactionUtil) {
+        super(transactionUtil, State::new);
+        this.photoHashtagRepository = photoHashtagRepository;
+    }
+
+
+    /**
+     * DB의 공개 사진 해시태그별 사용 횟수로 트라이를 다시 만듭니다.
+     * 재구성 중에 반영된 증감은 교체 직전에 새 트라이에 다시 적용합니다.
+     * 조회 직전에 커밋된 증감이 함께 기록되면 다음 재구성 전까지 1씩 어긋나 보일 수 있지만, 누락되지는 않습니다.
+     */
+    public void rebuild() {
+
+        State rebuilt = rebuild(current -> {
+            for (Object[] row : photoHashtagRepository.countByHashtagName()) {
+                adjust(current, (String) row[0], (Long) row[1]);
+            }
+        });
+
+        log.info("해시태그 자동완성 트라이 구성 완료: 해시태그 {}개", rebuilt.tagNames.size());
+    }
+
+
+    /**
+     * 해시태그 사용 횟수를 1씩 올립니다. 처음 보는 해시태그면 트라이에 추가합니다. (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param hashtags 공개 사진에 사용된 해시태그 이름 목록
+     */
+    public void increase(
+            Collection<String> hashtags) {
+
+        writeAfterCommit(current -> hashtags.forEach(hashtag -> adjust(current, hashtag, 1)));
+    }
+
+
+    /**
+     * 해시태그 사용 횟수를 1씩 내립니다. 사용 횟수가 0이 된 해시태그는 추천하지 않습니다. (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param hashtags 삭제되거나 비공개로 바뀐 사진의 해시태그 이름 목록
+     */
+    public void decrease(
+            Collection<String> hashtags) {
+
+        writeAfterCommit(current -> hashtags.forEach(hashtag -> adjust(current, hashtag, -1)));
+    }
+
+
+    /**
+     * 접두사로 시작하는 해시태그를 사용 횟수가 많은 순으로 조회합니다.
+     *
+     * @param prefix 입력 중인 접두사
+     * @param size 조회할 개수 (최대 MAX_SUGGESTIONS)
+     * @return 해시태그 이름과 사용 횟수 목록
+     */
+    public List<Suggestion> suggest(
+            String prefix, int size) {
+
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || size < 1) {
+            return List.of();
+        }
+
+        return read(current -> {
+            Node node = current.root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            int limit = Math.min(size, node.top.length);
+            List<Suggestion> suggestions = new ArrayList<>(limit);
+            for (int i = 0; i < limit; i++) {
+                int tagId = node.top[i];
+                suggestions.add(new Suggestion(current.tagNames.get(tagId), current.counts[tagId]));
+            }
+            return suggestions;
+        });
+    }
+
+
+    /**
+     * 해시태그 사용 횟수를 바꾸고, 경로상의 모든 노드에서 상위 목록을 갱신합니다.
+     * 늘어난 경우 목록 안에서 앞으로 옮기거나, 마지막 항목보다 커졌을 때만 새로 들어갑니다.
+     * 줄어든 경우 목록 밖의 해시태그가 들어올 수 있으므로, 아래 노드부터 자식들의 상위 목록을 합쳐 다시 계산합니다.
+     */
+    private void adjust(
+            State current, String hashtag, long amount) {
+
+        String normalized = normalize(hashtag);
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        if (amount < 0) {
+            decrease(current, normalized, -amount);
+            return;
+        }
+
+        Integer tagId = current.tagIdByName.get(normalized);
+        if (tagId == null) {
+            tagId = current.tagNames.size();
+            current.tagIdByName.put(normalized, tagId);
+            current.tagNames.add(normalized);
+            if (tagId == current.counts.length) {
+                current.counts = Arrays.copyOf(current.counts, tagId * 2);
+            }
+        }
+        current.counts[tagId] += amount;
+
+        Node node = current.root;
+        for (int i = 0; i < normalized.length(); i++) {
+            node = node.childOrCreate(normalized.charAt(i));
+            node.top = promote(node.top, tagId, current.counts);
+        }
+        node.tagId = tagId;
+    }
+
+
+    private void decrease(
+            State current, String normalized, long amount) {
+
+        Integer tagId = current.tagIdByName.get(normalized);
+        if (tagId == null) {
+            return;
+        }
+        // 재구성 중 기록된 감소가 이미 반영된 DB 값에 다시 적용될 수 있으므로 0 아래로 내리지 않음
+        current.counts[tagId] = Math.max(0, current.counts[tagId] - amount);
+
+        Node[] path = new Node[normalized.length()];
+        Node node = current.root;
+        for (int i = 0; i < normalized.length(); i++) {
+            node = node.child(normalized.charAt(i));
+            path[i] = node;
+        }
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i].top = recompute(path[i], current.counts);
+        }
+    }
+
+
+    /**
+     * 노드에서 끝나는 해시태그와 자식들의 상위 목록을 합쳐 상위 목록을 다시 계산합니다. (사용 횟수 0은 제외)
+     * 사용 횟수가 같으면 먼저 등록된 해시태그를 앞에 둡니다.
+     */
+    private int[] recompute(
+            Node node, long[] counts) {
+
+        Set<Integer> candidates = new HashSet<>();
+        if (node.tagId >= 0) {
+            candidates.add(node.tagId);
+        }
+        for (Node child : node.children) {
+            Arrays.stream(child.top).forEach(candidates::add);
+        }
+
+        return candidates.stream()
+                .filter(tagId -> counts[tagId] > 0)
+                .sorted(Comparator.comparingLong((Integer tagId) -> counts[tagId]).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(MAX_SUGGESTIONS)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+
+    private int[] promote(
+            int[] top, int tagId, long[] counts) {
+
+        int position = -1;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == tagId) {
+                position = i;
+                break;
+            }
+        }
+
+        if (position < 0) {
+            if (top.length < MAX_SUGGESTIONS) {
+                top = Arrays.copyOf(top, top.length + 1);
+            } else if (counts[top[top.length - 1]] >= counts[tagId]) {
+                return top;
+            }
+            position = top.length - 1;
+            top[position] = tagId;
+        }
+
+        // 사용 횟수가 같으면 먼저 들어온 해시태그를 앞에 유지
+        while (position > 0 && counts[top[position - 1]] < counts[tagId]) {
+            top[position] = top[position - 1];
+            position--;
+        }
+        top[position] = tagId;
+
+        return top;
+    }
+
+
+    private String normalize(
+            String text) {
+
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,127 @@
+package com.picscore.backend.photo.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long 배열로 ID 집합을 보관하는 포스팅 리스트
+ * 박싱 없이 원시 배열만 사용하므로 항목당 8byte로 유지되며, 추가/삭제는 이진 탐색 후 배열 이동으로 처리합니다.
+ * 동기화는 사용하는 쪽(인덱스의 잠금)에서 담당합니다.
+ */
+public class PostingList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = EMPTY;
+    private int size = 0;
+
+
+    /**
+     * ID를 추가합니다. 이미 있으면 무시합니다.
+     *
+     * @param id 추가할 ID
+     * @return 추가 여부
+     */
+    public boolean add(
+            long id) {
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(4, size + (size >> 1)));
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+
+        return true;
+    }
+
+
+    /**
+     * ID를 제거합니다.
+     *
+     * @param id 제거할 ID
+     * @return 제거 여부
+     */
+    public boolean remove(
+            long id) {
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+
+        // 많이 비었으면 배열을 줄여 메모리 회수
+        if (ids.length > 16 && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, ids.length / 2);
+        }
+
+        return true;
+    }
+
+
+    public boolean contains(
+            long id) {
+
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+
+    public int size() {
+        return size;
+    }
+
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+
+    /**
+     * index번째로 작은 ID를 반환합니다.
+     */
+    public long get(
+            int index) {
+
+        return ids[index];
+    }
+
+
+    /**
+     * 두 포스팅 리스트의 교집합을 새 리스트로 반환합니다. (작은 쪽을 기준으로 병합)
+     *
+     * @param other 교집합을 구할 리스트
+     * @return 교집합
+     */
+    public PostingList intersect(
+            PostingList other) {
+
+        PostingList result = new PostingList();
+        result.ids = new long[Math.min(size, other.size)];
+
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long a = ids[i];
+            long b = other.ids[j];
+            if (a == b) {
+                result.ids[result.size++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return result;
+    }
+}
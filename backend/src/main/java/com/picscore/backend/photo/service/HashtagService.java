@@ -1,6 +1,7 @@
 package com.picscore.backend.photo.service;
 
 import com.picscore.backend.photo.model.entity.Photo;
+import com.picscore.backend.photo.model.response.HashtagSuggestResponse;
 
 import java.util.List;
 
@@ -14,4 +15,10 @@ public interface HashtagService {
      * 사진에 해시태그를 연결하여 저장하는 메서드
      */
     void saveHashtags(Photo photo, List<String> hashtags);
+
+
+    /**
+     * 접두사로 시작하는 해시태그를 사용 횟수 순으로 추천하는 메서드
+     */
+    List<HashtagSuggestResponse> suggestHashtags(String prefix, int size);
 }
\ No newline at end of file
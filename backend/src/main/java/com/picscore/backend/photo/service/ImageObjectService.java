@@ -0,0 +1,66 @@
+package com.picscore.backend.photo.service;
+
+import com.picscore.backend.photo.model.entity.ImageObject;
+
+import java.util.Optional;
+
+/**
+ * 콘텐츠 해시 기반 이미지 중복 제거와 참조 수를 관리하는 서비스 인터페이스
+ */
+public interface ImageObjectService {
+
+
+    /**
+     * 콘텐츠 해시로 이미 저장된 이미지 객체를 조회하는 메서드
+     */
+    Optional<ImageObject> findByContentHash(String contentHash);
+
+
+    /**
+     * 새로 업로드된 이미지 객체를 등록하는 메서드 (동시 등록 시 먼저 등록된 객체를 반환)
+     */
+    ImageObject register(String contentHash, String imageName, long size);
+
+
+    /**
+     * 직접 업로드 URL을 발급한 이미지 객체를 콘텐츠 해시 없이 예약하는 메서드
+     */
+    void reserve(String imageName, long size);
+
+
+    /**
+     * 직접 업로드가 완료된 예약에 콘텐츠 해시를 등록하는 메서드 (같은 콘텐츠가 먼저 등록되었다면 예약을 지우고 기존 객체를 반환)
+     */
+    ImageObject completeReserved(String contentHash, String imageName, long size);
+
+
+    /**
+     * 업로드된 이미지를 재사용할 때 커밋 전 보관 기간을 연장하는 메서드
+     */
+    void touch(String imageName);
+
+
+    /**
+     * 사진/타임어택 저장 시 이미지 참조 수를 증가시키고 커밋하는 메서드
+     */
+    void acquire(String imageName);
+
+
+    /**
+     * 사진 삭제 시 이미지 참조 수를 감소시키는 메서드
+     * 더 이상 참조하는 사진이 없어 S3 객체를 삭제해도 되면 true를 반환합니다.
+     */
+    boolean release(String imageName);
+
+
+    /**
+     * 보관 기간이 지난 커밋되지 않은 이미지를 정리하는 메서드
+     */
+    void sweepUncommitted();
+
+
+    /**
+     * 이전 업로드 방식에서 남은 temp 폴더 객체를 정리하는 메서드
+     */
+    void sweepLegacyTemp();
+}
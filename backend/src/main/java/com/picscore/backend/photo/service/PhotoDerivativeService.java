@@ -0,0 +1,47 @@
+package com.picscore.backend.photo.service;
+
+import com.picscore.backend.photo.model.entity.Photo;
+
+import java.util.List;
+
+/**
+ * 썸네일 등 사진 파생 이미지 생성을 백그라운드에서 처리하는 서비스 인터페이스
+ */
+public interface PhotoDerivativeService {
+
+
+    /**
+     * 파생 이미지 생성 작업을 대기열에 등록하는 메서드
+     */
+    void enqueue(Long photoId, String imageName);
+
+
+    /**
+     * 사진 저장 전에 파생 이미지를 미리 생성하도록 등록하는 메서드
+     */
+    void prepare(String imageName);
+
+
+    /**
+     * 미리 생성된 파생 이미지가 있다면 사진에 반영하는 메서드
+     */
+    boolean applyPreparedDerivatives(Photo photo, String imageName);
+
+
+    /**
+     * 원본 이미지에서 생성되는 파생 이미지의 S3 키 목록을 반환하는 메서드
+     */
+    List<String> getDerivativeKeys(String imageName);
+
+
+    /**
+     * 대기열의 작업을 여유 워커에 배분하는 메서드
+     */
+    void dispatchPendingJobs();
+
+
+    /**
+     * 중단된 인스턴스가 처리하던 작업을 대기열로 되돌리는 메서드
+     */
+    void recoverInFlightJobs();
+}
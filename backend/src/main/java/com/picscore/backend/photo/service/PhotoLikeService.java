@@ -0,0 +1,37 @@
+package com.picscore.backend.photo.service;
+
+/**
+ * 사진 좋아요 상태를 Redis에서 관리하고 MySQL에 지연 반영하는 서비스 인터페이스
+ */
+public interface PhotoLikeService {
+
+
+    /**
+     * 좋아요 상태를 토글하는 메서드
+     */
+    Boolean toggleLike(Long photoId, Long userId);
+
+
+    /**
+     * 특정 유저의 좋아요 여부를 조회하는 메서드
+     */
+    Boolean isLiked(Long photoId, Long userId);
+
+
+    /**
+     * 특정 사진의 좋아요 수를 조회하는 메서드
+     */
+    int countLikes(Long photoId);
+
+
+    /**
+     * 특정 사진의 좋아요 캐시를 제거하는 메서드
+     */
+    void evict(Long photoId);
+
+
+    /**
+     * 대기 중인 좋아요 변경 사항을 MySQL에 일괄 반영하는 메서드
+     */
+    void flushPendingLikes();
+}
@@ -1,10 +1,15 @@
 package com.picscore.backend.photo.service;
 
+import com.picscore.backend.photo.model.dto.PhotoDownload;
 import com.picscore.backend.photo.model.response.*;
+import com.picscore.backend.photo.model.request.CompleteUploadRequest;
+import com.picscore.backend.photo.model.request.PresignedUploadRequest;
 import com.picscore.backend.photo.model.request.UploadPhotoRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +31,24 @@ public interface PhotoService {
     UploadPhotoResponse uploadFile(MultipartFile file) throws IOException;
 
 
+    /**
+     * 요청 본문 스트림을 버퍼링 없이 S3 임시 폴더에 업로드하는 메서드
+     */
+    UploadPhotoResponse uploadFileStream(InputStream inputStream, String contentType, long contentLength) throws IOException;
+
+
+    /**
+     * S3에 직접 업로드할 수 있는 서명된 URL을 발급하는 메서드
+     */
+    PresignedUploadResponse createPresignedUpload(PresignedUploadRequest request);
+
+
+    /**
+     * 서명된 URL로 직접 업로드한 파일을 확인하고 등록하는 메서드
+     */
+    UploadPhotoResponse completePresignedUpload(CompleteUploadRequest request);
+
+
     /**
      * 프로필 이미지를 S3에 업로드하는 메서드
      */
@@ -33,9 +56,15 @@ public interface PhotoService {
 
 
     /**
-     * 특정 키워드(해시태그)로 사진을 검색하는 메서드
+     * 특정 키워드(해시태그)로 사진을 페이지 단위로 검색하는 메서드
      */
-    List<GetPhotosResponse> searchPhotosByHashtag(String keyword);
+    Map<String, Object> searchPhotosByHashtag(String keyword, int pageNum, String sort);
+
+
+    /**
+     * 특정 키워드(해시태그)로 사진을 커서 기반으로 검색하는 메서드
+     */
+    Map<String, Object> scrollPhotosByHashtag(String keyword, String cursor, String sort);
 
 
     /**
@@ -50,6 +79,12 @@ public interface PhotoService {
     Map<String, Object> getPaginatedPhotos(int pageNum, String sort);
 
 
+    /**
+     * 커서 기반으로 사진 목록을 조회하는 메서드 (무한 스크롤)
+     */
+    Map<String, Object> getScrollPhotos(String cursor, String sort);
+
+
     /**
      * 특정 사용자의 사진을 조회하는 메서드
      */
@@ -75,9 +110,9 @@ public interface PhotoService {
 
 
     /**
-     * S3에서 파일을 다운로드하여 바이트 배열로 반환하는 메서드
+     * S3에서 파일을 스트림으로 다운로드하는 메서드 (Range, If-None-Match 지원)
      */
-    byte[] downloadFile(String fileName);
+    PhotoDownload downloadFile(String fileName, String range, String ifNoneMatch);
 
 
     /**
@@ -99,9 +134,15 @@ public interface PhotoService {
 
 
     /**
-     * S3 버킷 내 모든 파일 목록 조회
+     * 파일 목록을 조회할 수 있는 접두사인지 확인 (스트리밍 시작 전에 호출)
+     */
+    void checkListPrefix(String prefix);
+
+
+    /**
+     * S3 버킷 파일 목록을 NDJSON으로 스트리밍 (접두사 필터, startAfter 기반 이어서 조회)
      */
-    List<String> listFiles();
+    void listFiles(String prefix, String startAfter, long limit, OutputStream outputStream) throws IOException;
 
 
     /**
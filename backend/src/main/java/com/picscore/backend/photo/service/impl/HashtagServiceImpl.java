@@ -1,30 +1,70 @@
 package com.picscore.backend.photo.service.impl;
 
+import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.utill.TransactionUtil;
 import com.picscore.backend.photo.model.entity.Hashtag;
 import com.picscore.backend.photo.model.entity.Photo;
-import com.picscore.backend.photo.model.entity.PhotoHashtag;
+import com.picscore.backend.photo.model.response.HashtagSuggestResponse;
 import com.picscore.backend.photo.repository.HashtagRepository;
-import com.picscore.backend.photo.repository.PhotoHashtagRepository;
+import com.picscore.backend.photo.search.HashtagSearchIndex;
+import com.picscore.backend.photo.search.HashtagSuggestTrie;
 import com.picscore.backend.photo.service.HashtagService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
 
 /**
  * 해시태그 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
 @Service
-@RequiredArgsConstructor
 public class HashtagServiceImpl implements HashtagService {
 
+    // 이미 있는 이름은 hashtag.name 유니크 인덱스에 걸려 무시됨 (rewriteBatchedStatements로 다중 행 INSERT 전송)
+    private static final String INSERT_HASHTAG_SQL =
+            "INSERT IGNORE INTO hashtag (name) VALUES (?)";
+
+    private static final String INSERT_PHOTO_HASHTAG_SQL =
+            "INSERT INTO photo_hashtag (photo_id, hashtag_id) VALUES (?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
     private final HashtagRepository hashtagRepository;
-    private final PhotoHashtagRepository photoHashtagRepository;
+    private final HashtagSearchIndex hashtagSearchIndex;
+    private final HashtagSuggestTrie hashtagSuggestTrie;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionUtil transactionUtil;
+
+    // 해시태그 이름 -> ID 로컬 캐시 (해시태그 행은 삭제되지 않으므로 만료 없이 LRU로만 제한)
+    private final Map<String, Long> idCache;
+
+
+    public HashtagServiceImpl(
+            HashtagRepository hashtagRepository, HashtagSearchIndex hashtagSearchIndex,
+            HashtagSuggestTrie hashtagSuggestTrie, JdbcTemplate jdbcTemplate, TransactionUtil transactionUtil,
+            @Value("${photo.hashtag.id-cache-max-entries:10000}") int idCacheMaxEntries) {
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagSearchIndex = hashtagSearchIndex;
+        this.hashtagSuggestTrie = hashtagSuggestTrie;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionUtil = transactionUtil;
+        // 접근 순서 기반 LRU, 최대 개수를 넘으면 가장 오래 사용하지 않은 항목 제거
+        this.idCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > idCacheMaxEntries;
+            }
+        };
+    }
 
 
     /**
      * 사진에 해시태그를 연결하여 저장하는 메서드
+     * 해시태그 조회, 없는 해시태그 생성, 사진-해시태그 연결을 각각 한 번의 일괄 요청으로 처리합니다.
+     * 같은 해시태그를 동시에 생성해도 유니크 인덱스로 한 행만 남고, 양쪽 모두 그 행을 재조회하여 사용합니다.
      *
      * @param photo 해시태그를 연결할 사진 엔티티
      * @param hashtags 저장할 해시태그 이름 목록
@@ -34,15 +74,124 @@ public class HashtagServiceImpl implements HashtagService {
     @Override
     public void saveHashtags(Photo photo, List<String> hashtags) {
 
-        if (hashtags != null && !hashtags.isEmpty()) {
+        if (hashtags == null || hashtags.isEmpty()) {
+            return;
+        }
+
+        // 공백 제거 후 중복 제거 (입력 순서 유지)
+        Set<String> names = new LinkedHashSet<>();
+        for (String tagName : hashtags) {
+            if (tagName != null && !tagName.isBlank()) {
+                names.add(tagName.trim());
+            }
+        }
+        if (names.isEmpty()) {
+            return;
+        }
 
-            for (String tagName : hashtags) {
-                Hashtag hashtag = hashtagRepository.findByName(tagName)
-                        .orElseGet(() -> hashtagRepository.save(new Hashtag(tagName)));
+        Map<String, Long> ids = resolveIds(names);
 
-                photoHashtagRepository.save(new PhotoHashtag(photo, hashtag));
+        // 대소문자만 다른 이름은 같은 해시태그로 조회되므로 ID 기준으로 한 번 더 중복 제거
+        List<Long> hashtagIds = new ArrayList<>(new LinkedHashSet<>(ids.values()));
+        jdbcTemplate.batchUpdate(INSERT_PHOTO_HASHTAG_SQL, hashtagIds, BATCH_SIZE,
+                (ps, hashtagId) -> {
+                    ps.setLong(1, photo.getId());
+                    ps.setLong(2, hashtagId);
+                });
+
+        // 커밋 후 로컬 캐시와 검색 색인에 반영 (롤백된 해시태그 ID가 캐시에 남지 않도록)
+        transactionUtil.afterCommit(() -> {
+            synchronized (idCache) {
+                idCache.putAll(ids);
             }
+        });
+        hashtagSearchIndex.addPhoto(photo.getId(), names, Boolean.TRUE.equals(photo.getIsPublic()), photo.getScore());
+        // 자동완성 사용 횟수는 공개 사진만 집계
+        if (Boolean.TRUE.equals(photo.getIsPublic())) {
+            hashtagSuggestTrie.increase(names);
         }
     }
-}
 
+
+    /**
+     * 입력 중인 접두사로 시작하는 해시태그를 사용 횟수가 많은 순으로 추천하는 메서드
+     *
+     * @param prefix 입력 중인 접두사
+     * @param size 추천받을 개수
+     * @return 추천 해시태그 목록
+     * @throws CustomException 추천 개수가 범위를 벗어난 경우
+     */
+    @Override
+    public List<HashtagSuggestResponse> suggestHashtags(
+            String prefix, int size) {
+
+        if (size < 1 || size > HashtagSuggestTrie.MAX_SUGGESTIONS) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "추천 개수는 1 이상 " + HashtagSuggestTrie.MAX_SUGGESTIONS + " 이하의 값이어야 합니다.");
+        }
+
+        return hashtagSuggestTrie.suggest(prefix, size).stream()
+                .map(suggestion -> new HashtagSuggestResponse(suggestion.getName(), suggestion.getCount()))
+                .toList();
+    }
+
+
+    /**
+     * 해시태그 이름별 ID를 구합니다. 로컬 캐시에 없는 이름은 IN 조회 한 번으로 찾고,
+     * 그래도 없는 이름은 일괄 INSERT IGNORE 후 다시 조회합니다.
+     */
+    private Map<String, Long> resolveIds(
+            Set<String> names) {
+
+        Map<String, Long> ids = new LinkedHashMap<>();
+        synchronized (idCache) {
+            for (String name : names) {
+                Long id = idCache.get(name);
+                if (id != null) {
+                    ids.put(name, id);
+                }
+            }
+        }
+
+        List<String> missing = missingNames(names, ids);
+        if (missing.isEmpty()) {
+            return ids;
+        }
+        putAll(ids, hashtagRepository.findByNameIn(missing));
+
+        missing = missingNames(names, ids);
+        if (missing.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.batchUpdate(INSERT_HASHTAG_SQL, missing, BATCH_SIZE,
+                (ps, name) -> ps.setString(1, name));
+        putAll(ids, hashtagRepository.findByNameIn(missing));
+
+        // DB 콜레이션상 같은 이름(대소문자 차이 등)으로 저장된 해시태그는 이름 비교로 개별 조회
+        for (String name : missingNames(names, ids)) {
+            Hashtag hashtag = hashtagRepository.findByName(name)
+                    .orElseThrow(() -> new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "해시태그 저장에 실패했습니다: " + name));
+            ids.put(name, hashtag.getId());
+        }
+
+        return ids;
+    }
+
+
+    private List<String> missingNames(
+            Set<String> names, Map<String, Long> ids) {
+
+        return names.stream()
+                .filter(name -> !ids.containsKey(name))
+                .toList();
+    }
+
+
+    private void putAll(
+            Map<String, Long> ids, List<Hashtag> hashtags) {
+
+        for (Hashtag hashtag : hashtags) {
+            ids.put(hashtag.getName(), hashtag.getId());
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.picscore.backend.photo.service.impl;
+
+import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.storage.S3ObjectDeleter;
+import com.picscore.backend.photo.model.entity.ImageObject;
+import com.picscore.backend.photo.repository.ImageObjectRepository;
+import com.picscore.backend.photo.service.ImageObjectService;
+import com.picscore.backend.photo.service.PhotoDerivativeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 콘텐츠 해시 기반 이미지 중복 제거와 참조 수를 관리하는 서비스 클래스
+ * 저장되지 않은 채 보관 기간이 지난 업로드 객체의 정리도 담당합니다.
+ *
+ * 지표 (source 태그로 정리 대상 구분):
+ *     storage.reclaimed.objects  삭제한 원본 객체 수
+ *     storage.reclaimed.bytes    회수한 용량 (파생 이미지 제외, 원본 크기 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageObjectServiceImpl implements ImageObjectService {
+
+    private final ImageObjectRepository imageObjectRepository;
+    private final PhotoDerivativeService photoDerivativeService;
+    private final S3ObjectDeleter s3ObjectDeleter;
+    private final S3Client s3Client;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${photo.upload.uncommitted-ttl-seconds:86400}")
+    private long uncommittedTtlSeconds;
+
+
+    /**
+     * 콘텐츠 해시로 이미 저장된 이미지 객체를 조회하는 메서드
+     *
+     * @param contentHash SHA-256 해시 (16진수 문자열)
+     * @return 해당 해시의 이미지 객체
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImageObject> findByContentHash(
+            String contentHash) {
+
+        return imageObjectRepository.findByContentHash(contentHash);
+    }
+
+
+    /**
+     * 새로 업로드된 이미지 객체를 등록하는 메서드
+     * 같은 콘텐츠가 동시에 업로드된 경우 먼저 등록된 객체를 반환합니다.
+     *
+     * @param contentHash SHA-256 해시
+     * @param imageName 업로드한 이미지 파일명
+     * @param size 파일 크기(byte)
+     * @return 등록된 이미지 객체
+     */
+    @Override
+    @Transactional
+    public ImageObject register(
+            String contentHash, String imageName, long size) {
+
+        imageObjectRepository.insertIgnore(contentHash, imageName, size);
+        return imageObjectRepository.findByContentHash(contentHash).orElseThrow();
+    }
+
+
+    /**
+     * 직접 업로드 URL을 발급한 이미지 객체를 콘텐츠 해시 없이 예약하는 메서드
+     * 업로드되지 않은 채 보관 기간이 지나면 다른 미저장 업로드와 같이 정리됩니다.
+     * 업로드가 확인되기 전에는 해시로 조회되지 않으므로 다른 사용자가 존재하지 않는 객체를 재사용하지 않습니다.
+     *
+     * @param imageName 발급한 이미지 파일명
+     * @param size 요청한 파일 크기(byte)
+     */
+    @Override
+    @Transactional
+    public void reserve(
+            String imageName, long size) {
+
+        imageObjectRepository.insertReserved(imageName, size);
+    }
+
+
+    /**
+     * 직접 업로드가 완료된 예약에 콘텐츠 해시를 등록하는 메서드
+     * 그사이 같은 콘텐츠가 먼저 등록되었다면 예약을 지우고 먼저 등록된 객체를 반환합니다.
+     * 예약이 이미 정리되었다면 새로 등록합니다.
+     *
+     * @param contentHash SHA-256 해시
+     * @param imageName 업로드한 이미지 파일명
+     * @param size 파일 크기(byte)
+     * @return 등록된 이미지 객체
+     */
+    @Override
+    @Transactional
+    public ImageObject completeReserved(
+            String contentHash, String imageName, long size) {
+
+        if (imageObjectRepository.assignContentHash(imageName, contentHash) == 0) {
+            imageObjectRepository.deleteReserved(imageName);
+            imageObjectRepository.insertIgnore(contentHash, imageName, size);
+        }
+        return imageObjectRepository.findByContentHash(contentHash).orElseThrow();
+    }
+
+
+    /**
+     * 업로드된 이미지를 재사용할 때 커밋 전 보관 기간을 연장하는 메서드
+     * 같은 콘텐츠를 다시 업로드한 사용자가 저장하기 전에 정리되지 않도록 합니다.
+     *
+     * @param imageName 이미지 파일명
+     */
+    @Override
+    @Transactional
+    public void touch(
+            String imageName) {
+
+        imageObjectRepository.touch(imageName);
+    }
+
+
+    /**
+     * 사진/타임어택 저장 시 이미지 참조 수를 증가시키고 커밋하는 메서드
+     * 등록된 이미지가 없다면 보관 기간이 지나 정리된 것이므로 다시 업로드해야 합니다.
+     *
+     * @param imageName 이미지 파일명
+     */
+    @Override
+    @Transactional
+    public void acquire(
+            String imageName) {
+
+        if (imageObjectRepository.increaseRefCount(imageName) == 0) {
+            throw new CustomException(HttpStatus.NOT_FOUND, "업로드된 이미지가 만료되었습니다. 다시 업로드해주세요: " + imageName);
+        }
+    }
+
+
+    /**
+     * 사진 삭제 시 이미지 참조 수를 감소시키는 메서드
+     * 마지막 참조가 해제되면 인덱스에서도 제거하여 이후 같은 콘텐츠는 새로 업로드되도록 합니다.
+     *
+     * @param imageName 이미지 파일명
+     * @return S3 객체를 삭제해도 되면 true
+     */
+    @Override
+    @Transactional
+    public boolean release(
+            String imageName) {
+
+        Optional<ImageObject> imageObject = imageObjectRepository.findByImageNameForUpdate(imageName);
+        if (imageObject.isEmpty()) {
+            // 해시 인덱스 도입 이전의 이미지는 단독 소유
+            return true;
+        }
+
+        if (imageObject.get().getRefCount() > 1) {
+            imageObject.get().decreaseRefCount();
+            return false;
+        }
+
+        imageObjectRepository.delete(imageObject.get());
+        return true;
+    }
+
+
+    /**
+     * 보관 기간이 지난 커밋되지 않은 이미지를 정리하는 메서드
+     * 1000건씩 DB 행을 먼저 삭제하고(그사이 커밋된 행은 제외), 삭제된 행의 원본과 파생 이미지를 DeleteObjects로 일괄 삭제합니다.
+     * 삭제에 실패한 키가 있는 이미지는 해시 없이 행을 다시 등록하여 다음 정리 작업에서 재시도합니다.
+     */
+    @Override
+    public void sweepUncommitted() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(uncommittedTtlSeconds);
+
+        while (true) {
+            List<ImageObject> candidates = imageObjectRepository.findExpiredUncommitted(
+                    cutoff, PageRequest.of(0, S3ObjectDeleter.MAX_KEYS_PER_REQUEST));
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            List<ImageObject> deleted = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            for (ImageObject candidate : candidates) {
+                Integer count = transactionTemplate.execute(
+                        status -> imageObjectRepository.deleteIfUncommitted(candidate.getId()));
+                if (count != null && count > 0) {
+                    deleted.add(candidate);
+                    keys.add("permanent/" + candidate.getImageName());
+                    keys.addAll(photoDerivativeService.getDerivativeKeys(candidate.getImageName()));
+                }
+            }
+
+            List<String> failedKeys;
+            try {
+                failedKeys = s3ObjectDeleter.deleteAll(keys);
+            } catch (RuntimeException e) {
+                restore(deleted);
+                throw e;
+            }
+
+            Set<String> failed = new HashSet<>(failedKeys);
+            List<ImageObject> retry = deleted.stream()
+                    .filter(imageObject -> failed.contains("permanent/" + imageObject.getImageName())
+                            || photoDerivativeService.getDerivativeKeys(imageObject.getImageName()).stream().anyMatch(failed::contains))
+                    .toList();
+            if (!retry.isEmpty()) {
+                log.warn("미사용 이미지 S3 삭제 실패 {}건은 다음 정리 작업에서 재시도합니다.", retry.size());
+                restore(retry);
+            }
+            List<ImageObject> reclaimed = deleted.stream()
+                    .filter(imageObject -> !failed.contains("permanent/" + imageObject.getImageName()))
+                    .toList();
+            recordReclaimed("uncommitted", reclaimed.size(), reclaimed.stream().mapToLong(ImageObject::getSize).sum());
+
+            if (candidates.size() < S3ObjectDeleter.MAX_KEYS_PER_REQUEST) {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * S3 삭제에 실패한 이미지 객체를 다시 등록합니다.
+     *
+     * @param imageObjects 다시 등록할 이미지 객체
+     */
+    private void restore(
+            List<ImageObject> imageObjects) {
+
+        transactionTemplate.executeWithoutResult(status -> imageObjects.forEach(imageObject ->
+                imageObjectRepository.restoreForSweep(
+                        imageObject.getImageName(), imageObject.getSize(), imageObject.getUploadedAt())));
+    }
+
+
+    /**
+     * 원본을 temp 폴더에 올린 뒤 복사하던 방식에서 남은 temp 객체를 정리하는 메서드
+     * 새 업로드는 temp 폴더를 사용하지 않으므로, 보관 기간이 지난 객체를 모두 지우고 나면 빈 목록 조회만 수행합니다.
+     */
+    @Override
+    public void sweepLegacyTemp() {
+
+        Instant cutoff = Instant.now().minusSeconds(uncommittedTtlSeconds);
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix("temp/")
+                .maxKeys(S3ObjectDeleter.MAX_KEYS_PER_REQUEST)
+                .build();
+
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listRequest)) {
+            List<S3Object> expired = page.contents().stream()
+                    .filter(object -> object.lastModified().isBefore(cutoff))
+                    .toList();
+            if (expired.isEmpty()) {
+                continue;
+            }
+
+            List<String> failedKeys = s3ObjectDeleter.deleteAll(expired.stream().map(S3Object::key).toList());
+            long reclaimedBytes = expired.stream()
+                    .filter(object -> !failedKeys.contains(object.key()))
+                    .mapToLong(S3Object::size)
+                    .sum();
+            recordReclaimed("legacy_temp", expired.size() - failedKeys.size(), reclaimedBytes);
+        }
+    }
+
+
+    /**
+     * 정리된 객체 수와 용량을 지표로 기록합니다.
+     *
+     * @param source 정리 대상 구분 (uncommitted, legacy_temp)
+     * @param objects 삭제한 객체 수
+     * @param bytes 회수한 용량(byte)
+     */
+    private void recordReclaimed(
+            String source, long objects, long bytes) {
+
+        if (objects == 0) {
+            return;
+        }
+
+        Counter.builder("storage.reclaimed.objects")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment(objects);
+        Counter.builder("storage.reclaimed.bytes")
+                .tag("source", source)
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .increment(bytes);
+
+        log.info("미사용 이미지 정리 ({}): {}건, {}bytes", source, objects, bytes);
+    }
+}
@@ -0,0 +1,436 @@
+package com.picscore.backend.photo.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picscore.backend.common.image.ImageEncoder;
+import com.picscore.backend.common.image.ImageProcessor;
+import com.picscore.backend.common.queue.WorkerLease;
+import com.picscore.backend.common.utill.RedisUtil;
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.photo.model.entity.Photo;
+import com.picscore.backend.photo.repository.PhotoRepository;
+import com.picscore.backend.photo.service.PhotoDerivativeService;
+import com.picscore.backend.photo.service.PhotoService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사진 파생 이미지 생성을 Redis 대기열과 전용 스레드 풀로 처리하는 서비스 클래스
+ * 원본을 한 번만 디코딩한 뒤 설정된 너비(photo.derivative.sizes)별로 축소하여
+ * derivative/{너비}/ 폴더에 업로드하고, 가장 작은 크기를 썸네일로 사용합니다.
+ *
+ * Redis 키 구조:
+ *     photo-derivative:queue       대기 중인 작업 List ("{photoId}:{시도 횟수}:{imageName}")
+ *     photo-derivative:retry       실패 후 재시도를 기다리는 작업 Sorted Set (점수: 재시도 시각 ms)
+ *     photo-derivative:processing:{인스턴스 ID}  인스턴스별 처리 중인 작업 List (완료 시 제거, 인스턴스 임대 만료 시 대기열로 복구)
+ *     photo-derivative:workers     작업을 처리하는 인스턴스 ID Set
+ *     photo-derivative:ready:{imageName}  사진 저장 전에 미리 생성한 파생 이미지 URL (JSON, photoId가 0인 작업의 결과, 사진에 반영하면 제거)
+ *     photo-derivative:preparing:{imageName}  미리 생성하는 작업이 끝나지 않았음을 나타내는 표시 (완료 또는 최종 실패 시 제거)
+ */
+@Slf4j
+@Service
+public class PhotoDerivativeServiceImpl implements PhotoDerivativeService {
+
+    private final S3Client s3Client;
+    private final PhotoRepository photoRepository;
+    private final PhotoService photoService;
+    private final RedisUtil redisUtil;
+    private final TransactionUtil transactionUtil;
+    private final ThreadPoolTaskExecutor derivativeExecutor;
+    private final ImageEncoder imageEncoder;
+    private final ImageProcessor imageProcessor;
+    private final List<Integer> sizes;
+    private final WorkerLease workerLease;
+    private final String processingKey;
+
+    // 처리 인스턴스 등록 여부 (작업을 처음 꺼내기 전에 등록해야 중단 시 회수됨)
+    private volatile boolean registered = false;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${photo.derivative.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${photo.derivative.retry-base-delay-ms:5000}")
+    private long retryBaseDelayMs;
+
+    private static final String QUEUE_KEY = "photo-derivative:queue";
+    private static final String RETRY_KEY = "photo-derivative:retry";
+    private static final String PROCESSING_PREFIX = "photo-derivative:processing";
+    private static final String WORKERS_KEY = "photo-derivative:workers";
+
+    // 재시도 시각이 지난 작업을 최대 ARGV[2]개 대기열로 옮김
+    private static final RedisScript<Long> PROMOTE_DUE_SCRIPT = RedisScript.of("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, job in ipairs(due) do
+                redis.call('ZREM', KEYS[1], job)
+                redis.call('LPUSH', KEYS[2], job)
+            end
+            return #due
+            """, Long.class);
+
+    private static final String READY_KEY_PREFIX = "photo-derivative:ready:";
+    private static final String PREPARING_KEY_PREFIX = "photo-derivative:preparing:";
+
+    // 사진 저장 전 미리 생성하는 작업의 photoId
+    private static final long PREPARE_PHOTO_ID = 0L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${photo.derivative.ready-ttl-seconds:86400}")
+    private long readyTtlSeconds;
+
+
+    /**
+     * 인코딩된 파생 이미지와 실제 너비
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class EncodedDerivative {
+        private int width;
+        private byte[] bytes;
+    }
+
+
+    public PhotoDerivativeServiceImpl(
+            S3Client s3Client, PhotoRepository photoRepository, @Lazy PhotoService photoService,
+            RedisUtil redisUtil, TransactionUtil transactionUtil, @Qualifier("derivativeExecutor") ThreadPoolTaskExecutor derivativeExecutor,
+            List<ImageEncoder> imageEncoders, ImageProcessor imageProcessor, WorkerLease workerLease,
+            @Value("${photo.derivative.format:jpg}") String format,
+            @Value("${photo.derivative.sizes:150,480,1080}") List<Integer> sizes) {
+        this.s3Client = s3Client;
+        this.photoRepository = photoRepository;
+        this.photoService = photoService;
+        this.redisUtil = redisUtil;
+        this.transactionUtil = transactionUtil;
+        this.derivativeExecutor = derivativeExecutor;
+        this.imageProcessor = imageProcessor;
+        this.workerLease = workerLease;
+        this.processingKey = workerLease.processingKey(PROCESSING_PREFIX);
+        this.imageEncoder = imageEncoders.stream()
+                .filter(encoder -> encoder.getFormat().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 파생 이미지 포맷입니다: " + format));
+        // 큰 크기부터 순서대로 축소하도록 내림차순 정렬
+        this.sizes = sizes.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * 파생 이미지 생성 작업을 대기열에 등록하는 메서드
+     * 사진 DB 저장이 커밋된 후에 호출해야 합니다.
+     * 같은 이미지를 미리 생성하는 작업이 아직 진행 중이면 등록하지 않고, 그 작업이 완료될 때 사진에 반영합니다.
+     *
+     * @param photoId 사진 ID
+     * @param imageName permanent 폴더에 저장된 이미지 파일명
+     */
+    @Override
+    public void enqueue(
+            Long photoId, String imageName) {
+
+        if (redisUtil.getString(PREPARING_KEY_PREFIX + imageName) != null) {
+            log.info("미리 생성 중인 파생 이미지가 완료되면 반영합니다 (사진 ID: {}, 이미지: {})", photoId, imageName);
+            return;
+        }
+
+        redisUtil.leftPush(QUEUE_KEY, toJob(photoId, 0, imageName));
+    }
+
+
+    /**
+     * 사진 저장 전에 파생 이미지를 미리 생성하도록 대기열에 등록하는 메서드
+     * 직접 업로드 완료 시점에 호출하여, 사진 저장 시에는 생성된 결과를 바로 사용할 수 있도록 합니다.
+     *
+     * @param imageName permanent 폴더에 저장된 이미지 파일명
+     */
+    @Override
+    public void prepare(
+            String imageName) {
+
+        redisUtil.setString(PREPARING_KEY_PREFIX + imageName, "1", readyTtlSeconds);
+        redisUtil.leftPush(QUEUE_KEY, toJob(PREPARE_PHOTO_ID, 0, imageName));
+    }
+
+
+    /**
+     * 미리 생성된 파생 이미지가 있다면 사진에 반영하는 메서드
+     * 반영한 결과는 사진 저장이 커밋된 후 Redis에서 제거합니다.
+     *
+     * @param photo 저장할 사진
+     * @param imageName 이미지 파일명
+     * @return 반영 여부 (없으면 false, 이 경우 enqueue로 생성해야 함)
+     */
+    @Override
+    public boolean applyPreparedDerivatives(
+            Photo photo, String imageName) {
+
+        String json = redisUtil.getString(READY_KEY_PREFIX + imageName);
+        if (json == null) {
+            return false;
+        }
+
+        try {
+            Map<String, String> derivativeUrls = objectMapper.readValue(json, new TypeReference<>() {});
+            photo.updateDerivatives(toThumbnailUrl(derivativeUrls), derivativeUrls);
+            transactionUtil.afterCommit(() -> redisUtil.delete(READY_KEY_PREFIX + imageName));
+            return true;
+        } catch (JsonProcessingException e) {
+            log.warn("미리 생성된 파생 이미지 정보를 읽을 수 없습니다 (이미지: {}): {}", imageName, e.getMessage());
+            return false;
+        }
+    }
+
+
+    /**
+     * 대기열의 작업을 여유 워커 수만큼 꺼내 처리를 시작하는 메서드
+     * 꺼낸 작업은 완료될 때까지 processing List에 보관됩니다.
+     */
+    @Override
+    public void dispatchPendingJobs() {
+
+        if (!registered) {
+            workerLease.register(WORKERS_KEY);
+            registered = true;
+        }
+
+        // 재시도 시각이 지난 작업을 대기열로 이동
+        redisUtil.executeScript(PROMOTE_DUE_SCRIPT, List.of(RETRY_KEY, QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(derivativeExecutor.getMaxPoolSize()));
+
+        while (derivativeExecutor.getActiveCount() < derivativeExecutor.getMaxPoolSize()) {
+            String job = redisUtil.rightPopAndLeftPush(QUEUE_KEY, processingKey);
+            if (job == null) {
+                return;
+            }
+            try {
+                derivativeExecutor.execute(() -> process(job));
+            } catch (TaskRejectedException e) {
+                // 워커가 모두 사용 중이면 작업을 대기열로 되돌리고 다음 주기에 처리
+                redisUtil.removeFromList(processingKey, job);
+                redisUtil.leftPush(QUEUE_KEY, job);
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * 이 인스턴스를 작업 처리 인스턴스로 등록하고, 임대가 만료된(중단된) 인스턴스가 처리하던 작업을 대기열로 되돌리는 메서드
+     * 다른 인스턴스가 처리 중인 작업은 그 인스턴스의 processing List에 있으므로 되돌리지 않습니다.
+     */
+    @Override
+    public void recoverInFlightJobs() {
+
+        workerLease.register(WORKERS_KEY);
+        registered = true;
+        long recovered = workerLease.recoverExpired(WORKERS_KEY, PROCESSING_PREFIX, QUEUE_KEY);
+
+        if (recovered > 0) {
+            log.info("중단된 파생 이미지 작업 {}건을 대기열로 복구했습니다.", recovered);
+        }
+    }
+
+
+    /**
+     * 하나의 작업을 처리합니다. 실패 시 최대 시도 횟수까지 점점 긴 간격으로 재시도 대기 Set에 등록합니다.
+     *
+     * @param job 작업 문자열
+     */
+    private void process(
+            String job) {
+
+        String[] parts = job.split(":", 3);
+        Long photoId = Long.parseLong(parts[0]);
+        int attempt = Integer.parseInt(parts[1]);
+        String imageName = parts[2];
+
+        try {
+            Map<String, String> derivativeUrls = generateDerivatives(imageName);
+            String thumbnailUrl = toThumbnailUrl(derivativeUrls);
+
+            if (photoId == PREPARE_PHOTO_ID) {
+                redisUtil.setString(READY_KEY_PREFIX + imageName, objectMapper.writeValueAsString(derivativeUrls), readyTtlSeconds);
+                // 표시를 먼저 지워, 이후 커밋되는 사진은 enqueue에서 직접 처리하고 이미 커밋된 사진은 아래에서 갱신되도록 함
+                redisUtil.delete(PREPARING_KEY_PREFIX + imageName);
+                for (Long waitingPhotoId : findPhotosWithoutDerivatives(imageName)) {
+                    photoRepository.updateDerivatives(waitingPhotoId, thumbnailUrl, derivativeUrls);
+                }
+                return;
+            }
+
+            // 작업 도중 사진이 삭제되었다면 갱신되는 행이 없음
+            if (photoRepository.updateDerivatives(photoId, thumbnailUrl, derivativeUrls) == 0) {
+                log.info("파생 이미지 생성 중 사진이 삭제되었습니다 (사진 ID: {}, 이미지: {})", photoId, imageName);
+            }
+        } catch (Exception e) {
+            if (attempt + 1 < maxAttempts) {
+                // 시도마다 대기 시간을 2배로 늘려 재시도 대기 Set에 등록
+                long retryAt = System.currentTimeMillis() + (retryBaseDelayMs << Math.min(attempt, 10));
+                redisUtil.addToSortedSet(RETRY_KEY, toJob(photoId, attempt + 1, imageName), retryAt);
+                log.warn("파생 이미지 생성 실패, {}ms 후 재시도 (사진 ID: {}, 이미지: {}): {}",
+                        retryAt - System.currentTimeMillis(), photoId, imageName, e.getMessage());
+            } else {
+                log.error("파생 이미지 생성 실패 (사진 ID: {}, 이미지: {}): {}", photoId, imageName, e.getMessage(), e);
+                if (photoId == PREPARE_PHOTO_ID) {
+                    // 미리 생성이 끝나기를 기다리던 사진은 사진별 작업으로 다시 생성
+                    redisUtil.delete(PREPARING_KEY_PREFIX + imageName);
+                    findPhotosWithoutDerivatives(imageName).forEach(waitingPhotoId -> enqueue(waitingPhotoId, imageName));
+                }
+            }
+        } finally {
+            redisUtil.removeFromList(processingKey, job);
+        }
+    }
+
+
+    /**
+     * permanent 폴더의 원본을 가장 큰 파생 크기에 맞춰 서브샘플링 디코딩(1회)하여 설정된 크기(긴 변 최대 px)별 파생 이미지를 생성하고 업로드합니다.
+     * 직전 단계의 축소 결과를 다음 단계의 입력으로 사용하며, 원본보다 큰 크기로는 확대하지 않습니다.
+     * 결과는 실제 인코딩된 너비로 기록하므로 세로 이미지나 작은 원본도 srcset 너비가 정확하며, 너비가 같은 단계는 한 번만 업로드합니다.
+     *
+     * @param imageName 이미지 파일명
+     * @return 실제 너비(px) -> 파생 이미지 URL
+     * @throws IOException 이미지 처리 중 오류
+     */
+    private Map<String, String> generateDerivatives(
+            String imageName) throws IOException {
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key("permanent/" + imageName)
+                .build();
+
+        // 디코딩된 래스터는 인코딩까지만 보유하고, 업로드는 처리 슬롯을 반납한 뒤 수행
+        Map<Integer, EncodedDerivative> encodedImages;
+        try (InputStream originalImageStream = s3Client.getObject(getObjectRequest)) {
+            encodedImages = imageProcessor.process(originalImageStream, sizes.get(0), decoded -> {
+                Map<Integer, EncodedDerivative> encoded = new LinkedHashMap<>();
+                BufferedImage image = decoded;
+                int previousWidth = -1;
+                for (int size : sizes) {
+                    if (Math.max(image.getWidth(), image.getHeight()) > size) {
+                        image = Thumbnails.of(image)
+                                .size(size, size)
+                                .asBufferedImage();
+                    }
+                    // 원본이 작아 축소되지 않았다면 이전 단계와 같은 이미지이므로 생략
+                    if (image.getWidth() != previousWidth) {
+                        encoded.put(size, new EncodedDerivative(image.getWidth(), imageEncoder.encode(image)));
+                        previousWidth = image.getWidth();
+                    }
+                }
+                return encoded;
+            });
+        }
+
+        String derivativeName = toDerivativeName(imageName);
+        Map<String, String> derivativeUrls = new HashMap<>();
+
+        for (Map.Entry<Integer, EncodedDerivative> entry : encodedImages.entrySet()) {
+            String folder = "derivative/" + entry.getKey() + "/";
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(folder + derivativeName)
+                    .contentType(imageEncoder.getContentType())
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(entry.getValue().getBytes()));
+            derivativeUrls.put(String.valueOf(entry.getValue().getWidth()), photoService.getFileUrl(folder, derivativeName));
+        }
+
+        return derivativeUrls;
+    }
+
+
+    /**
+     * 가장 작은 파생 이미지를 썸네일로 사용합니다.
+     *
+     * @param derivativeUrls 너비(px) -> 파생 이미지 URL
+     * @return 썸네일 URL
+     */
+    private String toThumbnailUrl(
+            Map<String, String> derivativeUrls) {
+
+        return derivativeUrls.entrySet().stream()
+                .min(Comparator.comparingInt(entry -> Integer.parseInt(entry.getKey())))
+                .map(Map.Entry::getValue)
+                .orElse(null);
+    }
+
+
+    /**
+     * 원본 이미지를 사용하지만 아직 파생 이미지가 없는 사진 ID를 조회합니다.
+     */
+    private List<Long> findPhotosWithoutDerivatives(
+            String imageName) {
+
+        return photoRepository.findIdsByImageUrlAndThumbnailUrlIsNull(photoService.getFileUrl("permanent/", imageName));
+    }
+
+
+    /**
+     * 원본 이미지에서 생성되는 파생 이미지의 S3 키 목록을 반환하는 메서드
+     *
+     * @param imageName 원본 이미지 파일명
+     * @return 설정된 너비별 derivative/{너비}/{파일명} 키 목록
+     */
+    @Override
+    public List<String> getDerivativeKeys(
+            String imageName) {
+
+        String derivativeName = toDerivativeName(imageName);
+        return sizes.stream()
+                .map(size -> "derivative/" + size + "/" + derivativeName)
+                .toList();
+    }
+
+
+    /**
+     * 원본 파일명의 확장자를 파생 이미지 인코더의 확장자로 바꿉니다.
+     */
+    private String toDerivativeName(
+            String imageName) {
+
+        int extensionIndex = imageName.lastIndexOf(".");
+        String baseName = extensionIndex == -1 ? imageName : imageName.substring(0, extensionIndex);
+        return baseName + "." + imageEncoder.getExtension();
+    }
+
+
+    /**
+     * 작업 문자열을 생성합니다.
+     */
+    private String toJob(
+            Long photoId, int attempt, String imageName) {
+
+        return photoId + ":" + attempt + ":" + imageName;
+    }
+}
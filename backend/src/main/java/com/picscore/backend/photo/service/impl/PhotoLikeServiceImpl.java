@@ -0,0 +1,378 @@
+package com.picscore.backend.photo.service.impl;
+
+import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.utill.RedisUtil;
+import com.picscore.backend.photo.repository.PhotoLikeRepository;
+import com.picscore.backend.photo.repository.PhotoRepository;
+import com.picscore.backend.photo.service.PhotoLikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 사진 좋아요를 Redis에서 처리하고 MySQL에는 주기적으로 일괄 반영(write-behind)하는 서비스 클래스
+ *
+ * Redis 키 구조:
+ *     photo-like:{photoId}:users  좋아요를 누른 유저 ID Set (로딩 여부 표시용 "0" 포함)
+ *     photo-like:pending          반영 대기 중인 변경 사항 Hash ("{photoId}:{userId}" → 1: 좋아요, 0: 취소)
+ *     photo-like:flushing         반영 중인 변경 사항 Hash (반영 도중 장애 발생 시 다음 실행에서 재처리)
+ *     photo-like:flush-lock       반영 작업 잠금 (한 번에 한 인스턴스만 flushing Hash를 만들고 지움, 값: 실행별 토큰)
+ *     photo-like:failed           반영할 수 없는 변경 사항 Hash (형식 오류, 제약 조건 위반 등, 확인 후 수동 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoLikeServiceImpl implements PhotoLikeService {
+
+    private final PhotoRepository photoRepository;
+    private final PhotoLikeRepository photoLikeRepository;
+
+    private final RedisUtil redisUtil;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${photo.like.cache-ttl-seconds:604800}")
+    private long cacheTtlSeconds;
+
+    @Value("${photo.like.flush-lock-ttl-seconds:60}")
+    private long flushLockTtlSeconds;
+
+    private static final String PENDING_KEY = "photo-like:pending";
+    private static final String FLUSHING_KEY = "photo-like:flushing";
+    private static final String FLUSH_LOCK_KEY = "photo-like:flush-lock";
+    private static final String FAILED_KEY = "photo-like:failed";
+
+    // 좋아요가 하나도 없는 사진도 로딩 여부를 구분할 수 있도록 넣어두는 값 (유효한 유저 ID는 1 이상)
+    private static final String LOADED_MARKER = "0";
+
+    private static final int BATCH_SIZE = 500;
+
+    // 키가 없으면 -1, 좋아요 취소 시 0, 좋아요 시 1 반환
+    private static final RedisScript<Long> TOGGLE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                redis.call('HSET', KEYS[2], ARGV[2] .. ':' .. ARGV[1], '0')
+                return 0
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[2] .. ':' .. ARGV[1], '1')
+            return 1
+            """, Long.class);
+
+    // 이미 로딩된 Set을 DB 값으로 덮어쓰지 않도록 키가 없을 때만 채움
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 잠금을 얻으면 1, 다른 인스턴스가 보유 중이면 0 반환
+    private static final RedisScript<Long> ACQUIRE_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 아직 잠금을 보유하고 있을 때만 (ARGV[2]가 1이면 flushing Hash와 함께) 잠금을 해제
+    // 잠금이 만료되어 다른 인스턴스가 새 flushing Hash를 만들었을 수 있으므로, 보유하지 않으면 아무것도 지우지 않음
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            if ARGV[2] == '1' then
+                redis.call('DEL', KEYS[2])
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    // 사진이나 유저가 삭제된 변경은 외래 키 오류 없이 무시
+    private static final String INSERT_LIKE_SQL =
+            "INSERT INTO photo_like (photo_id, user_id, created_at) " +
+            "SELECT p.photo_id, u.user_id, NOW() FROM photo p JOIN `user` u ON u.user_id = ? " +
+            "WHERE p.photo_id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM photo_like pl WHERE pl.photo_id = ? AND pl.user_id = ?)";
+
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM photo_like WHERE photo_id = ? AND user_id = ?";
+
+    private static final String UPDATE_LIKE_COUNT_SQL =
+            "UPDATE photo SET like_count = (SELECT COUNT(*) FROM photo_like WHERE photo_id = ?) WHERE photo_id = ?";
+
+
+    /**
+     * 좋아요 상태를 토글하는 메서드
+     * Redis Set과 반영 대기 Hash를 Lua 스크립트로 한 번에 갱신하므로 MySQL 왕복 없이 처리됩니다.
+     *
+     * @param photoId 사진 ID
+     * @param userId 유저 ID
+     * @return 좋아요 상태 (true: 좋아요, false: 좋아요 취소)
+     */
+    @Override
+    public Boolean toggleLike(
+            Long photoId, Long userId) {
+
+        Long result = executeToggle(photoId, userId);
+
+        if (result == null || result < 0) {
+            // 캐시에 없는 사진이면 DB에서 로딩 후 재시도
+            if (!photoRepository.existsById(photoId)) {
+                throw new CustomException(HttpStatus.NOT_FOUND, "해당 사진을 찾을 수 없습니다. 사진 ID: " + photoId);
+            }
+            loadLikers(photoId);
+            result = executeToggle(photoId, userId);
+        }
+
+        if (result == null || result < 0) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "좋아요 처리 중 오류가 발생했습니다.");
+        }
+
+        return result == 1;
+    }
+
+
+    /**
+     * 특정 유저의 좋아요 여부를 조회하는 메서드
+     *
+     * @param photoId 사진 ID
+     * @param userId 유저 ID
+     * @return 좋아요 여부
+     */
+    @Override
+    public Boolean isLiked(
+            Long photoId, Long userId) {
+
+        ensureLoaded(photoId);
+
+        return Boolean.TRUE.equals(redisUtil.isSetMember(likersKey(photoId), String.valueOf(userId)));
+    }
+
+
+    /**
+     * 특정 사진의 좋아요 수를 조회하는 메서드
+     *
+     * @param photoId 사진 ID
+     * @return 좋아요 수
+     */
+    @Override
+    public int countLikes(
+            Long photoId) {
+
+        ensureLoaded(photoId);
+
+        Long size = redisUtil.getSetSize(likersKey(photoId));
+
+        // 로딩 표시용 값 제외
+        return size == null ? 0 : (int) Math.max(0, size - 1);
+    }
+
+
+    /**
+     * 특정 사진의 좋아요 캐시를 제거하는 메서드 (사진 삭제 시 호출)
+     *
+     * @param photoId 사진 ID
+     */
+    @Override
+    public void evict(
+            Long photoId) {
+
+        redisUtil.delete(likersKey(photoId));
+    }
+
+
+    /**
+     * 대기 중인 좋아요 변경 사항을 MySQL에 일괄 반영하는 메서드
+     * 같은 (사진, 유저) 쌍의 변경은 마지막 상태만 남으므로 반복 토글은 한 번의 쓰기로 합쳐집니다.
+     * 잠금을 보유한 인스턴스만 flushing Hash를 만들고 지우므로, 여러 인스턴스가 동시에 실행해도 다른 실행의 변경 사항을 지우지 않습니다.
+     * 반영이 실패하면 flushing Hash가 남아 다음 실행에서 재처리되며, 모든 SQL이 멱등이므로 재실행해도 안전합니다.
+     * 일괄 반영이 제약 조건 위반으로 실패하면 건별로 반영하고, 반영할 수 없는 변경은 failed Hash로 옮겨 이후 실행을 막지 않도록 합니다.
+     */
+    @Override
+    public void flushPendingLikes() {
+
+        String token = UUID.randomUUID().toString();
+        Long acquired = redisUtil.executeScript(ACQUIRE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY),
+                token, String.valueOf(flushLockTtlSeconds));
+        if (acquired == null || acquired == 0) {
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            // 이전 실행이 중단되었다면 남아있는 flushing Hash부터 재처리
+            if (!Boolean.TRUE.equals(redisUtil.exists(FLUSHING_KEY))) {
+                if (!Boolean.TRUE.equals(redisUtil.exists(PENDING_KEY))
+                        || !Boolean.TRUE.equals(redisUtil.renameIfAbsent(PENDING_KEY, FLUSHING_KEY))) {
+                    completed = true;
+                    return;
+                }
+            }
+
+            Map<Object, Object> entries = redisUtil.getHashEntries(FLUSHING_KEY);
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyChanges(entries));
+            } catch (DataIntegrityViolationException | IllegalArgumentException e) {
+                log.warn("좋아요 변경 사항 일괄 반영 실패, 건별로 다시 반영합니다: {}", e.getMessage());
+                entries.forEach(this::applyChange);
+            }
+            completed = true;
+        } finally {
+            // 커밋되지 않았다면 flushing Hash를 남겨 다음 실행에서 재처리
+            redisUtil.executeScript(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY, FLUSHING_KEY),
+                    token, completed ? "1" : "0");
+        }
+    }
+
+
+    /**
+     * 변경 사항 하나를 별도 트랜잭션으로 반영합니다.
+     * 형식이 잘못되었거나 제약 조건을 위반하는 변경은 failed Hash로 옮기고, 그 외 오류(DB 장애 등)는 그대로 던져 전체를 재처리합니다.
+     *
+     * @param field "{photoId}:{userId}"
+     * @param value 1: 좋아요, 0: 취소
+     */
+    private void applyChange(
+            Object field, Object value) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyChanges(Map.of(field, value)));
+        } catch (DataIntegrityViolationException | IllegalArgumentException e) {
+            log.error("좋아요 변경 사항을 반영할 수 없어 제외합니다 ({} = {}): {}", field, value, e.getMessage());
+            redisUtil.putHashEntry(FAILED_KEY, field.toString(), value.toString());
+        }
+    }
+
+
+    /**
+     * 변경 사항을 photo_like 테이블과 like_count에 반영합니다. 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param entries "{photoId}:{userId}" → 1: 좋아요, 0: 취소
+     * @throws IllegalArgumentException 형식이 잘못된 변경 사항이 있는 경우
+     */
+    private void applyChanges(
+            Map<Object, Object> entries) {
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<Long> touchedPhotoIds = new HashSet<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] ids = entry.getKey().toString().split(":");
+            if (ids.length != 2) {
+                throw new IllegalArgumentException("잘못된 좋아요 변경 사항입니다: " + entry.getKey());
+            }
+            Long photoId = Long.parseLong(ids[0]);
+            Long userId = Long.parseLong(ids[1]);
+
+            if ("1".equals(entry.getValue().toString())) {
+                inserts.add(new Object[]{userId, photoId, photoId, userId});
+            } else {
+                deletes.add(new Object[]{photoId, userId});
+            }
+            touchedPhotoIds.add(photoId);
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, deletes, BATCH_SIZE,
+                (ps, args) -> {
+                    ps.setLong(1, (Long) args[0]);
+                    ps.setLong(2, (Long) args[1]);
+                });
+
+        jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, inserts, BATCH_SIZE,
+                (ps, args) -> {
+                    ps.setLong(1, (Long) args[0]);
+                    ps.setLong(2, (Long) args[1]);
+                    ps.setLong(3, (Long) args[2]);
+                    ps.setLong(4, (Long) args[3]);
+                });
+
+        // 증감 대신 재계산하므로 재처리 시에도 like_count가 중복 반영되지 않음
+        jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT_SQL, new ArrayList<>(touchedPhotoIds), BATCH_SIZE,
+                (ps, photoId) -> {
+                    ps.setLong(1, photoId);
+                    ps.setLong(2, photoId);
+                });
+
+        log.debug("좋아요 변경 사항 반영 완료: 좋아요 {}건, 취소 {}건", inserts.size(), deletes.size());
+    }
+
+
+    /**
+     * Redis에 좋아요 Set이 없으면 DB에서 로딩합니다.
+     *
+     * @param photoId 사진 ID
+     */
+    private void ensureLoaded(
+            Long photoId) {
+
+        if (!Boolean.TRUE.equals(redisUtil.exists(likersKey(photoId)))) {
+            loadLikers(photoId);
+        }
+    }
+
+
+    /**
+     * DB의 좋아요 유저 목록으로 Redis Set을 채웁니다.
+     *
+     * @param photoId 사진 ID
+     */
+    private void loadLikers(
+            Long photoId) {
+
+        List<Long> userIds = photoLikeRepository.findUserIdsByPhotoId(photoId);
+
+        Object[] args = new Object[userIds.size() + 2];
+        args[0] = String.valueOf(cacheTtlSeconds);
+        args[1] = LOADED_MARKER;
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i + 2] = String.valueOf(userIds.get(i));
+        }
+
+        redisUtil.executeScript(LOAD_SCRIPT, List.of(likersKey(photoId)), args);
+    }
+
+
+    /**
+     * 토글 스크립트를 실행합니다.
+     *
+     * @param photoId 사진 ID
+     * @param userId 유저 ID
+     * @return 스크립트 결과 (-1: 캐시 없음, 0: 좋아요 취소, 1: 좋아요)
+     */
+    private Long executeToggle(
+            Long photoId, Long userId) {
+
+        return redisUtil.executeScript(TOGGLE_SCRIPT,
+                List.of(likersKey(photoId), PENDING_KEY),
+                String.valueOf(userId), String.valueOf(photoId), String.valueOf(cacheTtlSeconds));
+    }
+
+
+    /**
+     * 사진별 좋아요 유저 Set의 Redis 키를 생성합니다.
+     *
+     * @param photoId 사진 ID
+     * @return Redis 키
+     */
+    private String likersKey(
+            Long photoId) {
+
+        return "photo-like:" + photoId + ":users";
+    }
+}
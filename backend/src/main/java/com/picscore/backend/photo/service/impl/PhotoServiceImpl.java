@@ -1,19 +1,31 @@
 package com.picscore.backend.photo.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.storage.S3DeletionQueue;
+import com.picscore.backend.common.storage.S3StreamingUploader;
+import com.picscore.backend.common.utill.HashUtil;
+import com.picscore.backend.common.utill.RedisUtil;
+import com.picscore.backend.photo.model.dto.PhotoCursor;
+import com.picscore.backend.photo.model.dto.PhotoDownload;
+import com.picscore.backend.photo.model.entity.ImageObject;
 import com.picscore.backend.photo.model.entity.Photo;
-import com.picscore.backend.photo.model.entity.PhotoLike;
+import com.picscore.backend.photo.model.request.CompleteUploadRequest;
+import com.picscore.backend.photo.model.request.PresignedUploadRequest;
 import com.picscore.backend.photo.model.request.UploadPhotoRequest;
 import com.picscore.backend.photo.model.response.*;
 import com.picscore.backend.photo.repository.PhotoHashtagRepository;
-import com.picscore.backend.photo.repository.PhotoLikeRepository;
 import com.picscore.backend.photo.repository.PhotoRepository;
+import com.picscore.backend.photo.search.HashtagSearchIndex;
+import com.picscore.backend.photo.search.HashtagSuggestTrie;
 import com.picscore.backend.photo.service.HashtagService;
+import com.picscore.backend.photo.service.ImageObjectService;
+import com.picscore.backend.photo.service.PhotoDerivativeService;
+import com.picscore.backend.photo.service.PhotoLikeService;
 import com.picscore.backend.photo.service.PhotoService;
 import com.picscore.backend.user.model.entity.User;
 import com.picscore.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,15 +33,22 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import javax.imageio.ImageIO;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -41,106 +60,114 @@ import java.util.stream.Collectors;
 public class PhotoServiceImpl implements PhotoService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     private final UserRepository userRepository;
     private final PhotoRepository photoRepository;
-    private final PhotoLikeRepository photoLikeRepository;
     private final PhotoHashtagRepository photoHashtagRepository;
 
     private final HashtagService hashtagService;
+    private final PhotoLikeService photoLikeService;
+    private final PhotoDerivativeService photoDerivativeService;
+    private final ImageObjectService imageObjectService;
+    private final HashtagSearchIndex hashtagSearchIndex;
+    private final HashtagSuggestTrie hashtagSuggestTrie;
+
+    private final TransactionTemplate transactionTemplate;
+    private final HashUtil hashUtil;
+    private final RedisUtil redisUtil;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final S3DeletionQueue s3DeletionQueue;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${photo.upload.max-size-mb:20}")
+    private long uploadMaxSizeMb;
+
+    @Value("${photo.upload.presign-ttl-seconds:300}")
+    private long presignTtlSeconds;
+
+    private static final String PENDING_UPLOAD_KEY_PREFIX = "photo-upload:pending:";
+
+    @Value("${photo.hashtag-index.max-page:100}")
+    private int maxSearchPage;
+
+    private static final int PAGE_SIZE = 24;
+
+    // 파일 목록 조회를 허용하는 접두사
+    private static final List<String> LIST_PREFIXES = List.of("permanent/", "derivative/", "profile/");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
 
     /**
      * 새로운 사진을 저장하는 메서드
+     * 원본은 업로드 시 이미 permanent 폴더에 있으므로 복사하지 않고 이미지 객체를 커밋만 합니다.
+     * 썸네일 생성은 DB 커밋 후 백그라운드 작업으로 처리합니다.
+     * 썸네일 URL은 작업이 완료되면 사진 정보에 반영됩니다.
      *
      * @param userId 사진을 업로드한 사용자
      * @param request UploadPhotoRequest 요청 바디
      * @return ResponseEntity<BaseResponse<HttpStatus>> 저장 결과
      */
     @Override
-    @Transactional
     public SavePhotoResponse savePhoto(
             Long userId, UploadPhotoRequest request) {
 
-        String tempFolder = "temp/";
         String permanentFolder = "permanent/";
-        String thumbnailFolder = "thumbnail/";
 
         String imageName = request.getImageName();
 
-        // 1. 원본 이미지 S3 이동
-        CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
-                .sourceBucket(bucketName)
-                .sourceKey(tempFolder + imageName)
-                .destinationBucket(bucketName)
-                .destinationKey(permanentFolder + imageName)
-                .build();
-        s3Client.copyObject(copyObjectRequest);
-
-        // 2. S3에서 temp 이미지 InputStream 가져오기
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(tempFolder + imageName)
-                .build();
-
-        try (InputStream originalImageStream = s3Client.getObject(getObjectRequest)) {
-
-            // 3. Thumbnailator로 150x150 썸네일 생성
-            ByteArrayOutputStream thumbnailOutputStream = new ByteArrayOutputStream();
-            Thumbnails.of(originalImageStream)
-                    .size(150, 150)
-                    .outputFormat("jpg") // 필요시 png 등으로 바꿔도 됨
-                    .toOutputStream(thumbnailOutputStream);
-
-            byte[] thumbnailBytes = thumbnailOutputStream.toByteArray();
-
-            // 4. 리사이징된 이미지 S3에 업로드
-            PutObjectRequest putThumbnailRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(thumbnailFolder + imageName)
-                    .contentType("image/jpeg")
-                    .build();
-
-            s3Client.putObject(putThumbnailRequest, RequestBody.fromBytes(thumbnailBytes));
-
-        } catch (IOException e) {
-            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 생성 중 오류 발생");
-        }
-
-        // 5. URL 생성 및 DB 저장
+        // 1. URL 생성
         String permanImageUrl = getFileUrl(permanentFolder, imageName);
         if (permanImageUrl == null || permanImageUrl.trim().isEmpty()) {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 URL이 생성되지 않았습니다: " + imageName);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없음: " ));
+        // 2. DB 저장 (이미지 객체가 정리되었다면 acquire에서 예외가 발생하여 롤백)
+        Photo savedPhoto = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없음: " ));
 
-        Photo photo = new Photo(
-                user, permanImageUrl, request.getScore(), request.getIsPublic(),
-                request.getPhotoType(), request.getAnalysisChart(), request.getAnalysisText());
+            Photo photo = new Photo(
+                    user, permanImageUrl, request.getScore(), request.getIsPublic(),
+                    request.getPhotoType(), request.getAnalysisChart(), request.getAnalysisText());
 
-        photoRepository.save(photo);
-        SavePhotoResponse response = new SavePhotoResponse(photo.getId());
+            // 같은 원본을 공유하는 사진의 파생 이미지나, 직접 업로드 완료 시 미리 생성된 파생 이미지가 있다면 재사용
+            photoRepository.findFirstByImageUrlAndThumbnailUrlIsNotNull(permanImageUrl)
+                    .ifPresentOrElse(
+                            source -> photo.updateDerivatives(
+                                    source.getThumbnailUrl(), new HashMap<>(source.getDerivativeUrls())),
+                            () -> photoDerivativeService.applyPreparedDerivatives(photo, imageName));
 
-        hashtagService.saveHashtags(photo, request.getHashTag());
+            photoRepository.save(photo);
+            hashtagService.saveHashtags(photo, request.getHashTag());
+            imageObjectService.acquire(imageName);
 
-        return response;
+            return photo;
+        });
+
+        // 3. 커밋 후 파생 이미지 생성 작업 등록
+        if (savedPhoto.getThumbnailUrl() == null) {
+            photoDerivativeService.enqueue(savedPhoto.getId(), imageName);
+        }
+
+        return new SavePhotoResponse(savedPhoto.getId());
     }
 
 
     /**
-     * 임시 파일을 S3에 업로드하는 메서드
+     * 사진 원본을 S3에 업로드하는 메서드
+     * 원본은 처음부터 최종 위치(permanent 폴더)에 저장되며, 사진으로 저장되기 전까지는 커밋되지 않은 상태로 남습니다.
+     * 커밋되지 않은 채 보관 기간이 지나면 정리 작업이 삭제합니다.
+     * 내용 해시는 업로드하면서 계산하므로, 같은 콘텐츠가 이미 있다면 방금 올린 객체를 지우고 기존 객체를 사용합니다.
      *
      * @param file 업로드할 MultipartFile 객체
      * @return ResponseEntity<BaseResponse<UploadPhotoResponse>> 업로드 결과 응답
      * @throws IOException 파일 처리 중 발생할 수 있는 입출력 예외
      */
     @Override
-    @Transactional
     public UploadPhotoResponse uploadFile(
             MultipartFile file) throws IOException {
 
@@ -148,27 +175,200 @@ public class PhotoServiceImpl implements PhotoService {
             throw new CustomException(HttpStatus.BAD_REQUEST, "업로드 파일이 유효하지 않습니다");
         }
 
+        String permanentFolder = "permanent/";
+
         // UUID를 사용하여 고유한 파일명 생성
         String fileName = UUID.randomUUID() + getFileExtension(file.getOriginalFilename());
 
-        String tempFolder = "temp/";
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
-                .key(tempFolder + fileName)
+                .key(permanentFolder + fileName)
                 .contentType(file.getContentType())
                 .build();
 
-        try {
+        // 업로드하면서 해시를 계산하여 파일을 한 번만 읽음
+        MessageDigest digest = hashUtil.newDigest();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
             // S3에 파일 업로드
             s3Client.putObject(putObjectRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-            // 업로드 성공 시 응답 생성
-            UploadPhotoResponse response = new UploadPhotoResponse(getFileUrl(tempFolder, fileName), fileName);
-            return response;
+                    RequestBody.fromInputStream(inputStream, file.getSize()));
         } catch (Exception e) {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드 실패: " + e.getMessage());
         }
+        String contentHash = hashUtil.toHex(digest.digest());
+
+        // 같은 콘텐츠가 이미 업로드되어 있다면 방금 올린 객체를 지우고 기존 객체를 재사용
+        Optional<ImageObject> existing = imageObjectService.findByContentHash(contentHash);
+        if (existing.isPresent()) {
+            deleteObject(permanentFolder + fileName);
+            return reuseImageObject(existing.get());
+        }
+
+        // 업로드 성공 시 응답 생성
+        return registerImageObject(contentHash, fileName, file.getSize());
+    }
+
+
+    /**
+     * 요청 본문 스트림을 S3에 업로드하는 메서드
+     * 멀티파트 요청처럼 본문 전체를 메모리나 디스크에 모으지 않고, 읽는 즉시 S3 멀티파트 업로드로 전송합니다.
+     * 내용 해시는 업로드가 끝나야 알 수 있으므로, 같은 콘텐츠가 이미 있다면 방금 올린 객체를 지우고 기존 객체를 사용합니다.
+     *
+     * @param inputStream 요청 본문 스트림
+     * @param contentType 이미지 Content-Type
+     * @param contentLength 요청 Content-Length (알 수 없으면 -1)
+     * @return UploadPhotoResponse 업로드 결과
+     * @throws IOException 스트림 읽기 중 발생할 수 있는 입출력 예외
+     */
+    @Override
+    public UploadPhotoResponse uploadFileStream(
+            InputStream inputStream, String contentType, long contentLength) throws IOException {
+
+        String permanentFolder = "permanent/";
+
+        if (!s3StreamingUploader.isSupported(contentType)) {
+            throw new CustomException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 이미지 형식입니다: " + contentType);
+        }
+
+        long maxBytes = uploadMaxSizeMb * 1024 * 1024;
+        if (contentLength > maxBytes) {
+            throw new CustomException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "업로드 가능한 최대 크기(" + uploadMaxSizeMb + "MB)를 초과했습니다.");
+        }
+
+        String fileName = UUID.randomUUID() + toExtension(contentType);
+        S3StreamingUploader.UploadResult result =
+                s3StreamingUploader.upload(inputStream, permanentFolder + fileName, contentType, maxBytes);
+
+        Optional<ImageObject> existing = imageObjectService.findByContentHash(result.getContentHash());
+        if (existing.isPresent()) {
+            deleteObject(permanentFolder + fileName);
+            return reuseImageObject(existing.get());
+        }
+
+        return registerImageObject(result.getContentHash(), fileName, result.getSize());
+    }
+
+
+    /**
+     * S3에 직접 업로드할 수 있는 서명된 PUT URL을 발급하는 메서드
+     * Content-Type, 크기, SHA-256 체크섬을 서명에 포함하므로 S3가 요청과 다른 파일의 업로드를 거부합니다.
+     * 같은 콘텐츠가 이미 있다면 URL을 발급하지 않고 기존 파일 정보를 반환합니다.
+     *
+     * @param request 업로드할 파일의 Content-Type, 크기, SHA-256 해시
+     * @return PresignedUploadResponse 서명된 URL과 요청 시 보내야 할 헤더
+     */
+    @Override
+    public PresignedUploadResponse createPresignedUpload(
+            PresignedUploadRequest request) {
+
+        String permanentFolder = "permanent/";
+
+        if (request == null || !s3StreamingUploader.isSupported(request.getContentType())) {
+            throw new CustomException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "지원하지 않는 이미지 형식입니다.");
+        }
+        if (request.getSize() == null || request.getSize() <= 0 || request.getSize() > uploadMaxSizeMb * 1024 * 1024) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "파일 크기는 1byte 이상 " + uploadMaxSizeMb + "MB 이하여야 합니다.");
+        }
+        if (request.getContentHash() == null || !request.getContentHash().matches("[0-9a-fA-F]{64}")) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "contentHash는 SHA-256 16진수 문자열이어야 합니다.");
+        }
+
+        String contentHash = request.getContentHash().toLowerCase(Locale.ROOT);
+        Optional<ImageObject> existing = imageObjectService.findByContentHash(contentHash);
+        if (existing.isPresent()) {
+            UploadPhotoResponse reused = reuseImageObject(existing.get());
+            return new PresignedUploadResponse(null, Map.of(), reused.imageUrl, reused.imageName);
+        }
+
+        String fileName = UUID.randomUUID() + toExtension(request.getContentType());
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(permanentFolder + fileName)
+                .contentType(request.getContentType())
+                .contentLength(request.getSize())
+                .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(contentHash)))
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(presignTtlSeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        // 완료 요청 없이 업로드만 된 객체도 정리 작업이 지울 수 있도록 커밋되지 않은 이미지 객체로 예약
+        imageObjectService.reserve(fileName, request.getSize());
+
+        // 완료 요청 시 검증할 수 있도록 해시와 크기를 보관 (URL 만료 후에도 완료 요청을 받을 수 있도록 여유를 둠)
+        redisUtil.setString(PENDING_UPLOAD_KEY_PREFIX + fileName, contentHash + ":" + request.getSize(), presignTtlSeconds * 2);
+
+        // Host 헤더는 클라이언트가 URL로부터 설정하므로 제외
+        Map<String, String> headers = new HashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PresignedUploadResponse(presigned.url().toString(), headers, getFileUrl(permanentFolder, fileName), fileName);
+    }
+
+
+    /**
+     * 서명된 URL로 직접 업로드한 파일을 확인하고 등록하는 메서드
+     * S3 객체의 크기를 발급 시 요청과 비교한 뒤 발급 시 예약한 이미지 객체에 콘텐츠 해시를 등록하고, 파생 이미지 생성을 미리 시작합니다.
+     *
+     * @param request 업로드한 파일명
+     * @return UploadPhotoResponse 업로드 결과
+     */
+    @Override
+    public UploadPhotoResponse completePresignedUpload(
+            CompleteUploadRequest request) {
+
+        String permanentFolder = "permanent/";
+
+        if (request == null || request.getImageName() == null || request.getImageName().isBlank()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "파일명은 필수 입력값입니다.");
+        }
+
+        String imageName = request.getImageName();
+        String pending = redisUtil.getString(PENDING_UPLOAD_KEY_PREFIX + imageName);
+        if (pending == null) {
+            throw new CustomException(HttpStatus.NOT_FOUND, "업로드 요청 정보를 찾을 수 없습니다: " + imageName);
+        }
+
+        String[] parts = pending.split(":");
+        String contentHash = parts[0];
+        long size = Long.parseLong(parts[1]);
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(permanentFolder + imageName)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, "업로드된 파일이 없습니다: " + imageName);
+            }
+            throw e;
+        }
+
+        if (head.contentLength() != size) {
+            deleteObject(permanentFolder + imageName);
+            throw new CustomException(HttpStatus.BAD_REQUEST, "업로드된 파일 크기가 요청과 다릅니다.");
+        }
+
+        redisUtil.delete(PENDING_UPLOAD_KEY_PREFIX + imageName);
+
+        UploadPhotoResponse response = toUploadResponse(
+                imageObjectService.completeReserved(contentHash, imageName, size), imageName);
+        if (response.imageName.equals(imageName)) {
+            photoDerivativeService.prepare(imageName);
+        }
+
+        return response;
     }
 
 
@@ -211,18 +411,69 @@ public class PhotoServiceImpl implements PhotoService {
 
 
     /**
-     * 주어진 키워드(해시태그)로 사진을 검색하는 메서드
+     * 주어진 키워드(해시태그)로 사진을 페이지 단위로 검색하는 메서드
+     * 해시태그 검색 색인에서 관련도 순으로 한 페이지의 사진 ID만 구한 뒤 해당 사진만 조회합니다.
+     * 페이지 번호는 photo.hashtag-index.max-page까지 허용합니다.
      *
      * @param keyword 검색할 해시태그 키워드
-     * @return ResponseEntity<BaseResponse<List<GetPhotosResponse>>> 검색된 사진 목록
+     * @param pageNum 조회할 페이지 번호 (1부터 시작)
+     * @param sort 같은 일치 수준 안의 정렬 방식 (latest, score)
+     * @return Map<String, Object> 페이징된 사진 목록
      */
     @Override
-    public List<GetPhotosResponse> searchPhotosByHashtag(
-            String keyword) {
+    public Map<String, Object> searchPhotosByHashtag(
+            String keyword, int pageNum, String sort) {
 
-        List<GetPhotosResponse> responses = photoRepository.findPhotosByHashtagName(keyword);
+        if (pageNum < 1) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "페이지 번호는 1 이상의 값이어야 합니다.");
+        }
+        // 앞 페이지를 모두 힙에 담아 건너뛰므로 조회 가능한 페이지 수를 제한
+        if (pageNum > maxSearchPage) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "검색 결과는 " + maxSearchPage + "페이지까지 조회할 수 있습니다.");
+        }
 
-        return responses;
+        HashtagSearchIndex.SearchResult result = hashtagSearchIndex.search(
+                keyword, isScoreSort(sort), null, (pageNum - 1) * PAGE_SIZE, PAGE_SIZE);
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("totalPages", Math.min((result.getTotal() + PAGE_SIZE - 1) / PAGE_SIZE, maxSearchPage));
+        responseData.put("currentPage", pageNum);
+        responseData.put("photos", toSearchResponses(result.getHits()));
+
+        return responseData;
+    }
+
+
+    /**
+     * 주어진 키워드(해시태그)로 사진을 커서 기반으로 검색하는 메서드
+     * 커서는 이전 페이지 마지막 항목의 (일치 수준, 점수, 사진 ID)를 담으므로 스크롤 깊이와 무관하게 다음 페이지를 구합니다.
+     *
+     * @param keyword 검색할 해시태그 키워드
+     * @param cursor 이전 응답의 nextCursor 값 (첫 페이지는 null)
+     * @param sort 같은 일치 수준 안의 정렬 방식 (latest, score)
+     * @return Map<String, Object> 사진 목록과 다음 커서 정보
+     */
+    @Override
+    public Map<String, Object> scrollPhotosByHashtag(
+            String keyword, String cursor, String sort) {
+
+        boolean byScore = isScoreSort(sort);
+        HashtagSearchIndex.Hit after = (cursor == null || cursor.isBlank()) ? null : toSearchHit(PhotoCursor.decode(cursor));
+
+        HashtagSearchIndex.SearchResult result = hashtagSearchIndex.search(keyword, byScore, after, 0, PAGE_SIZE);
+
+        String nextCursor = null;
+        if (result.isHasNext()) {
+            HashtagSearchIndex.Hit last = result.getHits().get(result.getHits().size() - 1);
+            nextCursor = new PhotoCursor(last.getLevel() + ":" + last.getScore(), last.getPhotoId()).encode();
+        }
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("photos", toSearchResponses(result.getHits()));
+        responseData.put("nextCursor", nextCursor);
+        responseData.put("hasNext", nextCursor != null);
+
+        return responseData;
     }
 
 
@@ -252,10 +503,17 @@ public class PhotoServiceImpl implements PhotoService {
             // 요청한 사용자 ID가 사진 소유자가 아닐 경우 에러 반환
             throw new CustomException(HttpStatus.FORBIDDEN, "사진 삭제 권한이 없습니다.");
         }
+        // 해시태그 연결은 사진과 함께 삭제되므로 자동완성 사용 횟수에서 뺄 이름을 먼저 조회
+        List<String> hashtags = Boolean.TRUE.equals(photo.getIsPublic())
+                ? photoHashtagRepository.findHashtagNamesByPhotoId(photoId) : List.of();
+
         // mySQL에서 삭제
         photoRepository.delete(photo);
-        // S3에서 삭제
-        deleteFile(photo.getImageUrl());
+        hashtagSearchIndex.removePhoto(photoId);
+        hashtagSuggestTrie.decrease(hashtags);
+        photoLikeService.evict(photoId);
+        // S3 삭제 대기열에 등록 (커밋 후 백그라운드에서 삭제)
+        deleteImageFiles(extractFileName(photo.getImageUrl()), photo.getThumbnailUrl(), photo.getDerivativeUrls().values());
     }
 
 
@@ -277,15 +535,15 @@ public class PhotoServiceImpl implements PhotoService {
         PageRequest pageRequest;
         
         if (sort == null || sort.equalsIgnoreCase("latest")) {
-            pageRequest = PageRequest.of(pageNum - 1, 24, Sort.by(Sort.Direction.DESC, "createdAt"));
+            pageRequest = PageRequest.of(pageNum - 1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
             photoPage = photoRepository.findAllWithPublic(pageRequest);
 
         } else if (sort.equalsIgnoreCase("score")) {
-            pageRequest = PageRequest.of(pageNum - 1, 24, Sort.by(Sort.Direction.DESC, "score"));
+            pageRequest = PageRequest.of(pageNum - 1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "score"));
             photoPage = photoRepository.findAllWithPublic(pageRequest);
 
         } else if (sort.equalsIgnoreCase("like")) {
-            pageRequest = PageRequest.of(pageNum - 1, 24);
+            pageRequest = PageRequest.of(pageNum - 1, PAGE_SIZE);
             photoPage = photoRepository.findAllOrderByLikeCount(pageRequest);
 
         } else {
@@ -297,12 +555,9 @@ public class PhotoServiceImpl implements PhotoService {
             throw new CustomException(HttpStatus.NOT_FOUND, "해당 페이지에 랭킹 정보가 없습니다");
         }
 
-        // ✅ URL 경로 수정: permanent → thumbnail
+        // 썸네일이 아직 생성되지 않은 사진은 원본 URL로 응답
         List<GetPhotosResponse> photoResponses = photoPage.getContent().stream()
-                .map(photo -> {
-                    String thumbnailUrl = photo.getImageUrl().replace("permanent", "thumbnail");
-                    return new GetPhotosResponse(photo.getId(), thumbnailUrl);
-                })
+                .map(this::toThumbnailResponse)
                 .collect(Collectors.toList());
 
         Map<String, Object> responseData = new HashMap<>();
@@ -314,6 +569,78 @@ public class PhotoServiceImpl implements PhotoService {
     }
 
 
+    /**
+     * 커서(정렬 기준 값, 사진 ID) 기반으로 공개 사진 목록을 조회하는 메서드
+     * OFFSET과 COUNT 쿼리 없이 인덱스 탐색으로 다음 페이지를 가져오므로 스크롤 깊이와 무관하게 일정한 속도를 유지합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값 (첫 페이지는 null)
+     * @param sort 정렬 방식 (latest, score, like)
+     * @return Map<String, Object> 사진 목록과 다음 커서 정보
+     */
+    @Override
+    public Map<String, Object> getScrollPhotos(
+            String cursor, String sort) {
+
+        PhotoCursor photoCursor = (cursor == null || cursor.isBlank()) ? null : PhotoCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, PAGE_SIZE + 1);
+        List<Photo> photos;
+
+        if (sort == null || sort.equalsIgnoreCase("latest")) {
+            photos = (photoCursor == null)
+                    ? photoRepository.findPublicLatest(limit)
+                    : photoRepository.findPublicLatestAfter(
+                            photoCursor.getSortValueAsDateTime(), photoCursor.getPhotoId(), limit);
+
+        } else if (sort.equalsIgnoreCase("score")) {
+            photos = (photoCursor == null)
+                    ? photoRepository.findPublicScore(limit)
+                    : photoRepository.findPublicScoreAfter(
+                            photoCursor.getSortValueAsFloat(), photoCursor.getPhotoId(), limit);
+
+        } else if (sort.equalsIgnoreCase("like")) {
+            photos = (photoCursor == null)
+                    ? photoRepository.findPublicLike(limit)
+                    : photoRepository.findPublicLikeAfter(
+                            photoCursor.getSortValueAsInt(), photoCursor.getPhotoId(), limit);
+
+        } else {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 방식입니다.");
+        }
+
+        boolean hasNext = photos.size() > PAGE_SIZE;
+        if (hasNext) {
+            photos = photos.subList(0, PAGE_SIZE);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Photo last = photos.get(photos.size() - 1);
+            String sortValue;
+            if (sort == null || sort.equalsIgnoreCase("latest")) {
+                sortValue = last.getCreatedAt().toString();
+            } else if (sort.equalsIgnoreCase("score")) {
+                sortValue = String.valueOf(last.getScore());
+            } else {
+                sortValue = String.valueOf(last.getLikeCount());
+            }
+            nextCursor = new PhotoCursor(sortValue, last.getId()).encode();
+        }
+
+        List<GetPhotosResponse> photoResponses = photos.stream()
+                .map(this::toThumbnailResponse)
+                .collect(Collectors.toList());
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("photos", photoResponses);
+        responseData.put("nextCursor", nextCursor);
+        responseData.put("hasNext", hasNext);
+
+        return responseData;
+    }
+
+
     /**
      * 특정 사용자의 사진을 조회하는 메서드
      *
@@ -364,15 +691,15 @@ public class PhotoServiceImpl implements PhotoService {
         // User 정보 조회 (Photo와 연관된 User)
         User user = photo.getUser();
 
-        // 좋아요 수 조회
-        int likeCnt = photoLikeRepository.countByPhotoId(photoId);
+        // 좋아요 수 조회 (Redis에서 조회, MySQL 반영 전의 좋아요도 포함)
+        int likeCnt = photoLikeService.countLikes(photoId);
 
         // 기본적으로 비회원의 경우 isLike = false
         Boolean isLike = false;
 
         // 회원이라면 좋아요 여부 조회
         if (userId != null && userId > 0) {
-            isLike = photoLikeRepository.existsByPhotoIdAndUserId(photoId, userId);
+            isLike = photoLikeService.isLiked(photoId, userId);
         }
 
         // 해시태그 조회
@@ -411,6 +738,16 @@ public class PhotoServiceImpl implements PhotoService {
             throw new CustomException(HttpStatus.FORBIDDEN, "사진 수정 권한이 없습니다.");
         }
         photoRepository.togglePublic(photoId);
+        boolean isPublic = !Boolean.TRUE.equals(photo.getIsPublic());
+        hashtagSearchIndex.updateVisibility(photoId, isPublic);
+
+        // 자동완성 사용 횟수는 공개 사진만 집계
+        List<String> hashtags = photoHashtagRepository.findHashtagNamesByPhotoId(photoId);
+        if (isPublic) {
+            hashtagSuggestTrie.increase(hashtags);
+        } else {
+            hashtagSuggestTrie.decrease(hashtags);
+        }
     }
 
 
@@ -425,20 +762,16 @@ public class PhotoServiceImpl implements PhotoService {
 
         PageRequest pageRequest = PageRequest.of(0, 5);
 
-        List<Object[]> results = photoRepository.findTop5PhotosWithLikeCount(pageRequest);
+        List<Photo> results = photoRepository.findTop5PhotosWithLikeCount(pageRequest);
 
         List<GetPhotoTop5Response> responses =
                 results.stream()
-                        .map(result -> {
-                            Photo photo = (Photo) result[0];
-                            Long likeCount = (Long) result[1];
-                            return new GetPhotoTop5Response(
-                                    photo.getId(),
-                                    photo.getImageUrl(),
-                                    photo.getScore(),
-                                    likeCount
-                            );
-                        })
+                        .map(photo -> new GetPhotoTop5Response(
+                                photo.getId(),
+                                photo.getImageUrl(),
+                                photo.getScore(),
+                                (long) photo.getLikeCount()
+                        ))
                         .collect(Collectors.toList());
 
         return responses;
@@ -446,28 +779,76 @@ public class PhotoServiceImpl implements PhotoService {
 
 
     /**
-     * S3에서 파일을 다운로드하여 바이트 배열로 반환하는 메서드
+     * S3 원본 파일을 스트림으로 다운로드하는 메서드
+     * Range와 If-None-Match 헤더를 S3 요청에 그대로 전달하므로, 부분 응답과 조건부 응답을 S3가 판단합니다.
+     * 본문은 메모리에 모으지 않고 S3 응답 스트림을 그대로 반환합니다.
      *
      * @param fileName 다운로드할 파일의 이름
-     * @return byte[] 파일의 바이트 배열
+     * @param range 요청 Range 헤더 (없으면 null)
+     * @param ifNoneMatch 요청 If-None-Match 헤더 (없으면 null)
+     * @return PhotoDownload 응답 헤더 정보와 본문 스트림
      */
     @Override
-    public byte[] downloadFile(
-            String fileName) {
+    public PhotoDownload downloadFile(
+            String fileName, String range, String ifNoneMatch) {
 
         String permanentFolder = "permanent/";
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(permanentFolder + fileName)
+                .range(range)
+                .ifNoneMatch(ifNoneMatch)
                 .build();
 
-        // S3에서 파일을 바이트 배열로 가져오기
-        return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+        try {
+            ResponseInputStream<GetObjectResponse> objectStream = s3Client.getObject(getObjectRequest);
+            GetObjectResponse object = objectStream.response();
+
+            return new PhotoDownload(
+                    false, object.contentRange() != null, object.eTag(), object.contentLength(),
+                    object.contentRange(), object.contentType(), objectStream);
+        } catch (S3Exception e) {
+            switch (e.statusCode()) {
+                case 304 -> {
+                    return PhotoDownload.notModified(currentETag(permanentFolder + fileName, e));
+                }
+                case 404 -> throw new CustomException(HttpStatus.NOT_FOUND, "파일을 찾을 수 없습니다: " + fileName);
+                case 416 -> throw new CustomException(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "요청한 범위가 유효하지 않습니다: " + range);
+                default -> throw e;
+            }
+        }
+    }
+
+
+    /**
+     * 304 응답 시 클라이언트에 돌려줄 객체의 현재 ETag를 반환합니다.
+     * If-None-Match는 여러 값이나 *일 수 있으므로 요청 값을 그대로 쓰지 않고, S3 304 응답의 ETag 헤더를 사용합니다.
+     * 응답에 ETag가 없으면 HeadObject로 조회합니다.
+     *
+     * @param key S3 객체 키
+     * @param notModified S3의 304 응답
+     * @return 현재 ETag
+     */
+    private String currentETag(
+            String key, S3Exception notModified) {
+
+        if (notModified.awsErrorDetails() != null && notModified.awsErrorDetails().sdkHttpResponse() != null) {
+            Optional<String> eTag = notModified.awsErrorDetails().sdkHttpResponse().firstMatchingHeader("ETag");
+            if (eTag.isPresent()) {
+                return eTag.get();
+            }
+        }
+
+        return s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()).eTag();
     }
 
 
     /**
      * S3에서 파일을 삭제하는 메서드
+     * 원본을 참조하는 마지막 사진이 삭제될 때만 원본과 파생 이미지를 삭제 대기열에 등록합니다.
      *
      * @param imageUrl 삭제할 파일의 URL
      */
@@ -477,20 +858,14 @@ public class PhotoServiceImpl implements PhotoService {
 
         // URL에서 파일명을 추출
         String imageName = extractFileName(imageUrl);
-        String permanentFolder = "permanent/";
-
-        // S3에 삭제 요청 생성 및 실행
-        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(permanentFolder + imageName)
-                .build();
 
-        s3Client.deleteObject(deleteObjectRequest);
+        deleteImageFiles(imageName, null, List.of());
     }
 
 
     /**
      * 사진에 대한 좋아요 토글 메서드
+     * 좋아요 상태는 Redis에서 즉시 갱신되고 MySQL에는 PhotoLikeScheduler가 일괄 반영합니다.
      *
      * @param userId  사용자 ID
      * @param photoId 사진 ID
@@ -508,30 +883,17 @@ public class PhotoServiceImpl implements PhotoService {
             throw new CustomException(HttpStatus.BAD_REQUEST, "유효하지 않은 사진 ID입니다.");
         }
 
-        Photo photo = photoRepository.findById(photoId)
-                .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "해당 사진을 찾을 수 없습니다. 사진 ID: " + photoId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다. 사용자 ID: " + userId));
-
-        Optional<PhotoLike> existPhotoLike = photoLikeRepository.findByPhotoIdAndUserId(photoId, userId);
-
-        if (existPhotoLike.isPresent()) {
-            // 기존 팔로우 관계가 있으면 삭제
-            photoLikeRepository.delete(existPhotoLike.get());
-            return false;
-        } else {
-            PhotoLike photoLike = new PhotoLike(
-                    photo, user
-            );
-            photoLikeRepository.save(photoLike);
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다. 사용자 ID: " + userId);
         }
-        return true;
+
+        return photoLikeService.toggleLike(photoId, userId);
     }
 
 
     /**
      * S3에서 프로필 이미지를 삭제하는 메서드
+     * 삭제 대기열에 등록하고 실제 삭제는 백그라운드에서 수행합니다.
      *
      * @param imageUrl 삭제할 프로필 이미지의 URL
      */
@@ -547,36 +909,72 @@ public class PhotoServiceImpl implements PhotoService {
 
         String profileFolder = "profile/";
 
-        // S3에 삭제 요청 생성 및 실행
-        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(profileFolder + imageName)
-                .build();
+        // S3 삭제 대기열에 등록 (백그라운드에서 삭제)
+        s3DeletionQueue.enqueue(List.of(profileFolder + imageName));
+    }
 
-        s3Client.deleteObject(deleteObjectRequest);
+
+    /**
+     * 파일 목록을 조회할 수 있는 접두사인지 확인하는 메서드
+     * 사진 원본, 파생 이미지, 프로필 폴더만 허용하여 resized/ 등 내부 작업용 객체나 버킷 전체가 노출되지 않도록 합니다.
+     *
+     * @param prefix 조회할 키 접두사
+     */
+    @Override
+    public void checkListPrefix(
+            String prefix) {
+
+        if (prefix == null || LIST_PREFIXES.stream().noneMatch(prefix::startsWith)) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "조회할 수 있는 접두사가 아닙니다 (허용: " + String.join(", ", LIST_PREFIXES) + "): " + prefix);
+        }
     }
 
 
     /**
-     * S3 버킷 내 모든 파일 목록을 조회하는 메서드
+     * S3 버킷의 파일 목록을 NDJSON(한 줄에 객체 하나)으로 스트리밍하는 메서드
+     * SDK 페이지네이터로 1000개씩 조회하며 페이지마다 바로 출력하므로, 객체 수와 관계없이 메모리 사용량이 일정합니다.
+     * 각 줄은 {"key", "size", "lastModified", "eTag"} 형식이며, 중단된 경우 마지막으로 받은 key를 startAfter로 넘겨 이어서 조회할 수 있습니다.
      *
-     * @return List<String> 버킷 내 모든 파일 이름 목록
+     * @param prefix 조회할 키 접두사 (checkListPrefix로 허용된 접두사)
+     * @param startAfter 이 키 다음부터 조회 (없으면 처음부터)
+     * @param limit 최대 출력 개수 (0 이하이면 제한 없음)
+     * @param outputStream 출력 스트림
+     * @throws IOException 출력 중 발생할 수 있는 입출력 예외
      */
     @Override
-    public List<String> listFiles(
-    ) {
+    public void listFiles(
+            String prefix, String startAfter, long limit, OutputStream outputStream) throws IOException {
+
+        checkListPrefix(prefix);
 
         ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
                 .bucket(bucketName)
+                .prefix(prefix)
+                .startAfter(startAfter)
                 .build();
 
-        // S3에서 객체 목록 조회
-        ListObjectsV2Response response = s3Client.listObjectsV2(listObjectsRequest);
-
-        // 객체 키(파일 이름) 목록 반환
-        return response.contents().stream()
-                .map(S3Object::key)
-                .collect(Collectors.toList());
+        long written = 0;
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listObjectsRequest)) {
+            for (S3Object object : page.contents()) {
+                if (limit > 0 && written >= limit) {
+                    outputStream.flush();
+                    return;
+                }
+
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("key", object.key());
+                line.put("size", object.size());
+                line.put("lastModified", object.lastModified().toString());
+                line.put("eTag", object.eTag());
+
+                outputStream.write(objectMapper.writeValueAsBytes(line));
+                outputStream.write('\n');
+                written++;
+            }
+            // 페이지 단위로 클라이언트에 전송
+            outputStream.flush();
+        }
     }
 
 
@@ -660,7 +1058,7 @@ public class PhotoServiceImpl implements PhotoService {
             s3Client.headObject(headObjectRequest);
             return true; // 요청 성공 시 파일이 존재함
         } catch (S3Exception e) { // NoSuchKeyException 대신 S3Exception 사용
-            if (e.awsErrorDetails().errorCode().equals("404")) {
+            if (e.statusCode() == 404) {
                 return false; // 파일이 존재하지 않음
             }
             throw e; // 다른 예외는 다시 던짐
@@ -668,6 +1066,119 @@ public class PhotoServiceImpl implements PhotoService {
     }
 
 
+    /**
+     * 같은 콘텐츠의 기존 이미지 객체를 재사용하는 응답을 생성하는 메서드
+     * 아직 커밋되지 않은 객체라면 저장 전에 정리되지 않도록 보관 기간을 연장합니다.
+     *
+     * @param imageObject 기존 이미지 객체
+     * @return UploadPhotoResponse 기존 이미지 정보
+     */
+    private UploadPhotoResponse reuseImageObject(
+            ImageObject imageObject) {
+
+        imageObjectService.touch(imageObject.getImageName());
+        return new UploadPhotoResponse(getFileUrl("permanent/", imageObject.getImageName()), imageObject.getImageName());
+    }
+
+
+    /**
+     * 새로 업로드한 원본을 이미지 객체로 등록하는 메서드
+     * 동시에 같은 콘텐츠가 먼저 등록되었다면 방금 올린 객체를 지우고 먼저 등록된 파일명을 사용합니다.
+     *
+     * @param contentHash SHA-256 해시
+     * @param fileName 업로드한 파일명
+     * @param size 파일 크기(byte)
+     * @return UploadPhotoResponse 업로드 결과
+     */
+    private UploadPhotoResponse registerImageObject(
+            String contentHash, String fileName, long size) {
+
+        return toUploadResponse(imageObjectService.register(contentHash, fileName, size), fileName);
+    }
+
+
+    /**
+     * 등록된 이미지 객체로 업로드 결과를 만드는 메서드
+     * 등록된 객체가 방금 올린 파일이 아니라면(같은 콘텐츠가 먼저 등록됨) 방금 올린 객체를 지웁니다.
+     *
+     * @param registered 등록된 이미지 객체
+     * @param fileName 업로드한 파일명
+     * @return UploadPhotoResponse 업로드 결과
+     */
+    private UploadPhotoResponse toUploadResponse(
+            ImageObject registered, String fileName) {
+
+        String registeredName = registered.getImageName();
+        if (!registeredName.equals(fileName)) {
+            deleteObject("permanent/" + fileName);
+        }
+
+        return new UploadPhotoResponse(getFileUrl("permanent/", registeredName), registeredName);
+    }
+
+
+    /**
+     * 이미지 Content-Type에 해당하는 파일 확장자를 반환하는 메서드
+     *
+     * @param contentType 이미지 Content-Type (예: image/jpeg)
+     * @return 확장자 (예: .jpg)
+     */
+    private String toExtension(
+            String contentType) {
+
+        return "." + contentType.substring("image/".length()).replace("jpeg", "jpg");
+    }
+
+
+    /**
+     * 사진 원본과 파생 이미지를 S3 삭제 대기열에 등록하는 메서드
+     * 같은 원본을 공유하는 사진이 남아 있다면 등록하지 않습니다. (파생 이미지도 원본 단위로 공유됨)
+     *
+     * @param imageName 원본 이미지 파일명
+     * @param thumbnailUrl 사진의 썸네일 URL (이전 방식의 thumbnail/ 폴더 포함, 없으면 null)
+     * @param derivativeUrls 사진에 기록된 파생 이미지 URL 목록
+     */
+    private void deleteImageFiles(
+            String imageName, String thumbnailUrl, Collection<String> derivativeUrls) {
+
+        if (imageName == null || !imageObjectService.release(imageName)) {
+            return;
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add("permanent/" + imageName);
+        // 현재 설정 크기의 파생 이미지 (사진에 반영되기 전에 생성된 경우 포함)
+        keys.addAll(photoDerivativeService.getDerivativeKeys(imageName));
+
+        String bucketUrl = getFileUrl("", "");
+        for (String url : derivativeUrls) {
+            if (url != null && url.startsWith(bucketUrl)) {
+                keys.add(url.substring(bucketUrl.length()));
+            }
+        }
+        if (thumbnailUrl != null && thumbnailUrl.startsWith(bucketUrl)) {
+            keys.add(thumbnailUrl.substring(bucketUrl.length()));
+        }
+
+        s3DeletionQueue.enqueue(keys);
+    }
+
+
+    /**
+     * S3 객체를 삭제하는 메서드
+     *
+     * @param key 삭제할 S3 키
+     */
+    private void deleteObject(
+            String key) {
+
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+
     /**
      * 파일명에서 확장자를 추출하는 메서드
      *
@@ -693,4 +1204,76 @@ public class PhotoServiceImpl implements PhotoService {
         // 4. 소문자로 통일하여 반환 (선택사항)
         return originalFileName.substring(extensionIndex);
     }
-}
\ No newline at end of file
+
+
+    /**
+     * 사진을 썸네일 URL 기반 목록 응답으로 변환하는 메서드
+     * 썸네일 생성 작업이 아직 완료되지 않았다면 원본 URL을 사용합니다.
+     *
+     * @param photo 사진 엔티티
+     * @return GetPhotosResponse 목록 응답
+     */
+    private GetPhotosResponse toThumbnailResponse(
+            Photo photo) {
+
+        String thumbnailUrl = photo.getThumbnailUrl() != null ? photo.getThumbnailUrl() : photo.getImageUrl();
+        return new GetPhotosResponse(photo.getId(), thumbnailUrl, photo.buildSrcset());
+    }
+
+
+    /**
+     * 해시태그 검색의 같은 일치 수준 안 정렬 방식을 해석합니다.
+     *
+     * @param sort 정렬 방식 (latest, score)
+     * @return 점수순 여부
+     */
+    private boolean isScoreSort(
+            String sort) {
+
+        if (sort == null || sort.equalsIgnoreCase("latest")) {
+            return false;
+        }
+        if (sort.equalsIgnoreCase("score")) {
+            return true;
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 방식입니다.");
+    }
+
+
+    /**
+     * 해시태그 검색 커서("일치 수준:점수", 사진 ID)를 색인의 정렬 위치로 변환합니다.
+     */
+    private HashtagSearchIndex.Hit toSearchHit(
+            PhotoCursor photoCursor) {
+
+        String[] values = photoCursor.getSortValue().split(":");
+        try {
+            return new HashtagSearchIndex.Hit(photoCursor.getPhotoId(), Integer.parseInt(values[0]), Float.parseFloat(values[1]));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+
+    /**
+     * 검색 결과 항목의 사진을 한 번에 조회하여 색인의 순위대로 썸네일 응답을 만듭니다.
+     * 색인 반영 전에 비공개로 바뀌거나 삭제된 사진은 제외합니다.
+     */
+    private List<GetPhotosResponse> toSearchResponses(
+            List<HashtagSearchIndex.Hit> hits) {
+
+        List<Long> photoIds = hits.stream()
+                .map(HashtagSearchIndex.Hit::getPhotoId)
+                .toList();
+
+        Map<Long, Photo> photos = photoRepository.findAllById(photoIds).stream()
+                .filter(photo -> Boolean.TRUE.equals(photo.getIsPublic()))
+                .collect(Collectors.toMap(Photo::getId, photo -> photo));
+
+        return photoIds.stream()
+                .map(photos::get)
+                .filter(Objects::nonNull)
+                .map(this::toThumbnailResponse)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.picscore.backend.timeattack.service;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 타임어택 주제와 이미지 태그의 일치 여부를 판단하는 매처
+ *
+ * 동의어가 설정된 주제(timeattack.topic-synonyms)는 시작 시 소문자로 정규화한 주제어와 동의어 목록을 만들어 두고,
+ * 설정에 없는 주제는 요청마다 주제어만으로 비교합니다. (클라이언트가 보낸 주제를 캐시에 쌓지 않음)
+ */
+@Component
+public class TopicMatcher {
+
+    private final Map<String, List<String>> termsByTopic;
+
+
+    public TopicMatcher(
+            Environment environment) {
+        this.termsByTopic = Binder.get(environment)
+                .bind("timeattack.topic-synonyms", Bindable.mapOf(String.class, String.class))
+                .map(this::parseSynonyms)
+                .orElse(Map.of());
+    }
+
+
+    /**
+     * 태그가 주제(또는 주제의 동의어)를 포함하는지 확인합니다.
+     *
+     * @param topic 타임어택 주제
+     * @param tagName 이미지 태그 (Azure Vision 태그는 소문자)
+     * @return 일치 여부
+     */
+    public boolean matches(
+            String topic, String tagName) {
+
+        String tag = tagName.toLowerCase(Locale.ROOT);
+        for (String term : termsFor(topic)) {
+            if (tag.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 주제에 해당하는 정규화된 검색어 목록을 반환합니다.
+     */
+    private List<String> termsFor(
+            String topic) {
+
+        String normalizedTopic = normalize(topic);
+        return termsByTopic.getOrDefault(normalizedTopic, List.of(normalizedTopic));
+    }
+
+
+    /**
+     * 설정의 "주제: 동의어1, 동의어2" 값을 주제어를 맨 앞에 둔 정규화된 검색어 목록으로 변환합니다.
+     */
+    private Map<String, List<String>> parseSynonyms(
+            Map<String, String> raw) {
+
+        Map<String, List<String>> parsed = new HashMap<>();
+        raw.forEach((topic, value) -> {
+            String normalizedTopic = normalize(topic);
+            Set<String> terms = new LinkedHashSet<>();
+            terms.add(normalizedTopic);
+            Arrays.stream(value.split(","))
+                    .map(this::normalize)
+                    .filter(term -> !term.isEmpty())
+                    .forEach(terms::add);
+            parsed.put(normalizedTopic, List.copyOf(terms));
+        });
+        return Map.copyOf(parsed);
+    }
+
+
+    private String normalize(
+            String text) {
+
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,8 +1,13 @@
 package com.picscore.backend.timeattack.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.picscore.backend.common.exception.CustomException;
+import com.picscore.backend.common.resilience.AdaptiveBulkhead;
 import com.picscore.backend.common.utill.GameWeekUtil;
+import com.picscore.backend.common.utill.HashUtil;
 import com.picscore.backend.common.utill.RedisUtil;
+import com.picscore.backend.photo.service.ImageObjectService;
 import com.picscore.backend.photo.service.PhotoService;
 import com.picscore.backend.timeattack.model.entity.TimeAttack;
 import com.picscore.backend.timeattack.model.request.AnalysisPhotoRequest;
@@ -12,21 +17,23 @@ import com.picscore.backend.timeattack.model.response.AzureVisionResponse;
 import com.picscore.backend.timeattack.model.response.GetRankingResponse;
 import com.picscore.backend.timeattack.repository.TimeAttackRepository;
 import com.picscore.backend.timeattack.service.TimeAttackService;
+import com.picscore.backend.timeattack.service.TopicMatcher;
 import com.picscore.backend.user.model.entity.User;
 import com.picscore.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.SecureRandom;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -42,14 +49,20 @@ public class TimeAttackServiceImpl implements TimeAttackService {
     private final UserRepository userRepository;
 
     private final PhotoService photoService;
+    private final ImageObjectService imageObjectService;
 
     private final GameWeekUtil gameWeekUtil;
     private final RedisUtil redisUtil;
 
+    @Qualifier("visionRestTemplate")
     private final RestTemplate restTemplate;
-    private final S3Client s3Client;
+    @Qualifier("visionBulkhead")
+    private final AdaptiveBulkhead visionBulkhead;
+    private final TopicMatcher topicMatcher;
+    private final HashUtil hashUtil;
 
     private final SecureRandom secureRandom = new SecureRandom();
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${AZURE_ENDPOINT}")
     private String visionApiUrl;
@@ -57,8 +70,8 @@ public class TimeAttackServiceImpl implements TimeAttackService {
     @Value("${AZURE_COMPUTER_VISION_KEY}")
     private String visionApiKey;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    @Value("${timeattack.vision-tag-cache-ttl-seconds:86400}")
+    private long visionTagCacheTtlSeconds;
 
 
     /**
@@ -160,6 +173,55 @@ public class TimeAttackServiceImpl implements TimeAttackService {
             throw new CustomException(HttpStatus.BAD_REQUEST, "시간(time)은 필수 입력값입니다.");
         }
 
+        float time = Float.parseFloat(request.getTime());
+        final float adjustedTime = time / 20f;
+
+        // 같은 이미지의 태그 분석 결과가 캐시되어 있다면 Azure Vision API를 호출하지 않음
+        List<AzureVisionResponse.Tag> tags = getImageTags(request.getImageFile());
+
+        // API 응답에서 태그 정보 추출 및 변환
+        List<AnalysisPhotoResponse> analysisResults = tags.stream()
+                .map(tag -> new AnalysisPhotoResponse(
+                        tag.getName(), tag.getConfidence(), tag.getConfidence() * 0.7f + adjustedTime * 0.3f))
+                .collect(Collectors.toList());
+
+        // 요청된 주제(또는 동의어)와 일치하는 태그 중 가장 높은 신뢰도를 가진 태그 선택
+        AnalysisPhotoResponse result = analysisResults.stream()
+                .filter(tag -> topicMatcher.matches(request.getTopic(), tag.getName()))
+                .max(Comparator.comparing(AnalysisPhotoResponse::getConfidence))
+                .orElseGet(() -> {
+                    // 랜덤한 값(0.00 ~ 0.20) 생성
+                    float randomConfidence = secureRandom.nextFloat() * 0.20f;
+                    return new AnalysisPhotoResponse("일치 항목 없음", randomConfidence, randomConfidence * 0.7f + adjustedTime * 0.3f);
+                });
+
+        return result;
+    }
+
+
+    /**
+     * 이미지 태그 목록을 조회하는 메서드
+     * 이미지 내용의 SHA-256 해시로 Redis에 캐시하여 재시도나 중복 제출 시 Azure Vision API 호출을 생략합니다.
+     * 이미지는 바이트 배열로 모으지 않고 업로드 임시 파일에서 스트리밍으로 전송합니다.
+     *
+     * @param imageFile 분석할 이미지 파일
+     * @return 태그 목록
+     * @throws IOException 파일 처리 중 발생할 수 있는 입출력 예외
+     */
+    private List<AzureVisionResponse.Tag> getImageTags(
+            MultipartFile imageFile) throws IOException {
+
+        String contentHash;
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            contentHash = hashUtil.sha256Hex(inputStream);
+        }
+        String cacheKey = "vision-tags:" + contentHash;
+
+        String cached = redisUtil.getString(cacheKey);
+        if (cached != null) {
+            return objectMapper.readValue(cached, new TypeReference<>() {});
+        }
+
         String url = visionApiUrl + "vision/v3.2/analyze?visualFeatures=Tags";
 
         // HTTP 요청 헤더 설정
@@ -167,46 +229,26 @@ public class TimeAttackServiceImpl implements TimeAttackService {
         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
         headers.set("Ocp-Apim-Subscription-Key", visionApiKey);
 
-        // 이미지 파일을 바이트 배열로 변환
-        byte[] imageFileBytes = request.getImageFile().getBytes();
-        HttpEntity<byte[]> requestEntity = new HttpEntity<>(imageFileBytes, headers);
+        HttpEntity<Resource> requestEntity = new HttpEntity<>(imageFile.getResource(), headers);
 
         try {
             // Azure Vision API 호출
-            ResponseEntity<AzureVisionResponse> response = restTemplate.exchange(
+            ResponseEntity<AzureVisionResponse> response = visionBulkhead.execute(() -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     requestEntity,
                     AzureVisionResponse.class
-            );
-
-            float time = 20f;
-            time = Float.parseFloat(request.getTime());
-            final float adjustedTime = time / 20f;
-
+            ));
 
             // 응답 자체가 유효하지 않은 경우 예외 처리
-            if (response == null || response.getBody() == null) {
+            if (response == null || response.getBody() == null || response.getBody().getTags() == null) {
                 throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 분석 결과가 유효하지 않습니다");
             }
 
-            // API 응답에서 태그 정보 추출 및 변환
-            List<AnalysisPhotoResponse> analysisResults = response.getBody().getTags().stream()
-                    .map(tag -> new AnalysisPhotoResponse(
-                            tag.getName(), tag.getConfidence(), tag.getConfidence() * 0.7f + adjustedTime * 0.3f))
-                    .collect(Collectors.toList());
-
-            // 요청된 주제와 일치하는 태그 중 가장 높은 신뢰도를 가진 태그 선택
-            AnalysisPhotoResponse result = analysisResults.stream()
-                    .filter(tag -> tag.getName().toLowerCase().contains(request.getTopic().toLowerCase()))
-                    .max(Comparator.comparing(AnalysisPhotoResponse::getConfidence))
-                    .orElseGet(() -> {
-                        // 랜덤한 값(0.00 ~ 0.20) 생성
-                        float randomConfidence = secureRandom.nextFloat() * 0.20f;
-                        return new AnalysisPhotoResponse("일치 항목 없음", randomConfidence, randomConfidence * 0.7f + adjustedTime * 0.3f);
-                    });
-
-            return result;
+            List<AzureVisionResponse.Tag> tags = response.getBody().getTags();
+            redisUtil.setString(cacheKey, objectMapper.writeValueAsString(tags), visionTagCacheTtlSeconds);
+
+            return tags;
         } catch (RestClientException e) {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 분석 실패: " + e.getMessage());
         }
@@ -249,27 +291,9 @@ public class TimeAttackServiceImpl implements TimeAttackService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없음: " + userId));
 
-        String tempFolder = "temp/";
-        String activityFolder = "activity/";
-
-        try {
-            // S3에서 임시 폴더의 이미지를 activity 폴더로 이동
-            CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
-                    .sourceBucket(bucketName)
-                    .sourceKey(tempFolder + request.getImageName())
-                    .destinationBucket(bucketName)
-                    .destinationKey(activityFolder + request.getImageName())
-                    .build();
-            s3Client.copyObject(copyObjectRequest);
-        } catch (S3Exception e) {
-            if (e.statusCode() == 404) { // HTTP 404 상태 코드 확인
-                throw new CustomException(HttpStatus.NOT_FOUND, "S3에 해당 이미지 파일이 존재하지 않습니다: " + request.getImageName());
-            }
-            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 이동 중 오류 발생: " + e.getMessage());
-        }
-
-        // 새로운 이미지 URL 생성
-        String activityImageUrl = photoService.getFileUrl(activityFolder, request.getImageName());
+        // 업로드된 원본을 그대로 참조 (복사하지 않고 이미지 객체를 커밋)
+        imageObjectService.acquire(request.getImageName());
+        String activityImageUrl = photoService.getFileUrl("permanent/", request.getImageName());
 
         // 타임어택 정보를 DB에 저장
         String activityWeek = gameWeekUtil.getCurrentGameWeek();
@@ -189,13 +189,14 @@ public class UserController {
      * 사용자를 검색하는 엔드포인트
      *
      * @param searchText 검색어 텍스트
+     * @param pageNum 조회할 페이지 번호 (기본값 1)
      * @return ResponseEntity<BaseResponse < List < SearchUsersResponse>>> 검색 결과 응답
      */
     @GetMapping("/search/{searchText}")
     public ResponseEntity<BaseResponse<List<SearchUsersResponse>>> searchUser(
-            @PathVariable String searchText) {
+            @PathVariable String searchText, @RequestParam(defaultValue = "1") int pageNum) {
 
-        List<SearchUsersResponse> searchUsersResponseList = userService.searchUser(searchText);
+        List<SearchUsersResponse> searchUsersResponseList = userService.searchUser(searchText, pageNum);
 
         return ResponseEntity.ok(BaseResponse.success("친구 검색 성공", searchUsersResponseList));
     }
@@ -42,13 +42,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 
     /**
-     * 닉네임에 특정 문자열이 포함된 사용자를 조회합니다.
+     * 사용자 검색 색인 구성을 위해 전체 사용자의 닉네임을 조회합니다.
      *
-     * @param searchText 검색어
-     * @return 닉네임이 검색어를 포함하는 사용자 목록
+     * @return [사용자 ID, 닉네임] 목록
      */
-    @Query("SELECT u FROM User u WHERE u.nickName LIKE %:searchText%")
-    List<User> findByNickNameContaining(@Param("searchText") String searchText);
+    @Query("SELECT u.id, u.nickName FROM User u")
+    List<Object[]> findAllNickNames();
 
 
     /**
@@ -0,0 +1,47 @@
+package com.picscore.backend.user.scheduler;
+
+import com.picscore.backend.user.search.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 검색 색인을 적재하고 주기적으로 다시 구성하는 스케줄러
+ * 다른 서버 인스턴스에서 발생한 가입과 닉네임 변경은 재구성 시점에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexScheduler {
+
+    private final UserSearchIndex userSearchIndex;
+
+
+    /**
+     * 서버 시작 시 DB에서 색인을 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        rebuild();
+    }
+
+
+    /**
+     * 색인을 DB 기준으로 다시 구성합니다.
+     */
+    @Scheduled(initialDelayString = "${user.search-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${user.search-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+
+        try {
+            userSearchIndex.rebuild();
+        } catch (Exception e) {
+            // 실패하면 기존 색인을 그대로 사용
+            log.error("사용자 검색 색인 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.picscore.backend.user.search;
+
+import com.picscore.backend.common.search.RebuildableIndex;
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.photo.search.PostingList;
+import com.picscore.backend.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 닉네임으로 사용자를 찾는 메모리 내 n-gram 역색인
+ *
+ * 닉네임의 글자(1-gram)와 연속한 두 글자(2-gram)마다 사용자 ID 포스팅 리스트를 유지합니다.
+ * 한글 음절은 한 글자로 취급하므로 짧은 한글 닉네임도 두 글자 검색어부터 색인으로 찾습니다.
+ * 한 글자 검색어는 1-gram 포스팅을 그대로 사용하고, 두 글자 이상은 2-gram 포스팅을 교집합한 뒤 부분 문자열 일치를 확인합니다.
+ * 결과는 페이지 크기만큼의 힙으로 상위 항목만 골라내므로 검색 시간이 전체 사용자 수가 아닌 일치한 사용자 수와 페이지 크기에 비례합니다.
+ *
+ * 서버 시작 시 전체를 적재하고, 가입과 닉네임 변경은 트랜잭션 커밋 후 증분 반영합니다.
+ * 다른 서버 인스턴스에서 발생한 변경은 주기적인 재구성(rebuild)으로 반영됩니다.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex extends RebuildableIndex<UserSearchIndex.State> {
+
+    private final UserRepository userRepository;
+
+
+    /**
+     * 색인 데이터 (잠금 안에서만 접근)
+     */
+    static class State {
+        // 사용자 ID -> 닉네임(정규화)
+        private final Map<Long, String> nickNameByUser = new HashMap<>();
+        // 1-gram, 2-gram -> 사용자 ID
+        private final Map<String, PostingList> usersByGram = new HashMap<>();
+    }
+
+
+    /**
+     * 검색 결과 항목 (일치 수준: 완전 일치 3, 접두 일치 2, 부분 일치 1)
+     */
+    private record Hit(long userId, int level, int length) {
+    }
+
+
+    // 일치 수준 내림차순, 짧은 닉네임 우선, 먼저 가입한 사용자 우선
+    private static final Comparator<Hit> ORDER = Comparator.comparingInt(Hit::level).reversed()
+            .thenComparingInt(Hit::length)
+            .thenComparingLong(Hit::userId);
+
+
+    public UserSearchIndex(
+            UserRepository userRepository, TransactionUtil transactionUtil) {
+        super(transactionUtil, State::new);
+        this.userRepository = userRepository;
+    }
+
+
+    /**
+     * DB의 전체 사용자 닉네임으로 색인을 다시 만듭니다.
+     * 재구성 중에 반영된 닉네임 변경은 교체 직전에 새 색인에 다시 적용합니다. (여러 번 적용해도 결과가 같음)
+     */
+    public void rebuild() {
+
+        State rebuilt = rebuild(current -> {
+            for (Object[] row : userRepository.findAllNickNames()) {
+                put(current, (Long) row[0], (String) row[1]);
+            }
+        });
+
+        log.info("사용자 검색 색인 구성 완료: 사용자 {}명", rebuilt.nickNameByUser.size());
+    }
+
+
+    /**
+     * 사용자의 닉네임을 색인에 추가하거나 변경합니다. (트랜잭션 안이면 커밋 후 반영)
+     *
+     * @param userId 사용자 ID
+     * @param nickName 닉네임
+     */
+    public void put(
+            Long userId, String nickName) {
+
+        writeAfterCommit(current -> put(current, userId, nickName));
+    }
+
+
+    /**
+     * 닉네임에 검색어가 포함된 사용자 ID를 관련도 순으로 조회합니다.
+     * 완전 일치, 접두 일치, 부분 일치 순으로 정렬하고, 같은 수준 안에서는 짧은 닉네임, 먼저 가입한 사용자 순으로 정렬합니다.
+     *
+     * @param searchText 검색어
+     * @param offset 건너뛸 결과 수 (offset + limit 크기의 힙을 사용하므로 호출자가 상한을 두어야 함)
+     * @param limit 조회할 결과 수
+     * @return 사용자 ID 목록
+     */
+    public List<Long> search(
+            String searchText, int offset, int limit) {
+
+        String normalized = normalize(searchText);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        if (offset < 0 || offset > Integer.MAX_VALUE - limit) {
+            throw new IllegalArgumentException("잘못된 조회 범위입니다: offset=" + offset + ", limit=" + limit);
+        }
+
+        int keep = offset + limit;
+
+        PriorityQueue<Hit> top = read(current -> {
+            // 가장 뒤에 올 항목이 맨 위에 오는 힙
+            PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(keep, 1024), ORDER.reversed());
+            PostingList candidates = candidates(current, normalized);
+
+            for (int i = 0; i < candidates.size(); i++) {
+                long userId = candidates.get(i);
+                String nickName = current.nickNameByUser.get(userId);
+                if (nickName == null || !nickName.contains(normalized)) {
+                    continue;
+                }
+
+                int level = nickName.equals(normalized) ? 3 : nickName.startsWith(normalized) ? 2 : 1;
+                Hit hit = new Hit(userId, level, nickName.length());
+                if (heap.size() < keep) {
+                    heap.add(hit);
+                } else if (ORDER.compare(hit, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            }
+            return heap;
+        });
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(ORDER);
+
+        return ranked.stream()
+                .skip(offset)
+                .map(Hit::userId)
+                .toList();
+    }
+
+
+    /**
+     * 검색어의 n-gram 포스팅을 교집합하여 후보 사용자 ID를 구합니다. (짧은 포스팅부터 교집합)
+     */
+    private PostingList candidates(
+            State current, String normalized) {
+
+        List<PostingList> postings = new ArrayList<>();
+        for (String gram : grams(normalized, normalized.length() == 1 ? 1 : 2)) {
+            PostingList posting = current.usersByGram.get(gram);
+            if (posting == null) {
+                return new PostingList();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList candidates = postings.get(0);
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.intersect(postings.get(i));
+        }
+
+        return candidates;
+    }
+
+
+    private void put(
+            State current, Long userId, String nickName) {
+
+        String normalized = normalize(nickName);
+        String previous = current.nickNameByUser.get(userId);
+        if (normalized.equals(previous)) {
+            return;
+        }
+
+        if (previous != null) {
+            for (String gram : allGrams(previous)) {
+                PostingList posting = current.usersByGram.get(gram);
+                if (posting != null && posting.remove(userId) && posting.isEmpty()) {
+                    current.usersByGram.remove(gram);
+                }
+            }
+        }
+
+        if (normalized.isEmpty()) {
+            current.nickNameByUser.remove(userId);
+            return;
+        }
+
+        current.nickNameByUser.put(userId, normalized);
+        for (String gram : allGrams(normalized)) {
+            current.usersByGram.computeIfAbsent(gram, key -> new PostingList()).add(userId);
+        }
+    }
+
+
+    private Set<String> allGrams(
+            String text) {
+
+        Set<String> grams = grams(text, 1);
+        grams.addAll(grams(text, 2));
+        return grams;
+    }
+
+
+    private Set<String> grams(
+            String text, int n) {
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+
+    private String normalize(
+            String text) {
+
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -26,7 +26,7 @@ public interface UserService {
     /**
      * 사용자 닉네임으로 사용자 목록을 검색합니다.
      */
-    List<SearchUsersResponse> searchUser(String searchText);
+    List<SearchUsersResponse> searchUser(String searchText, int pageNum);
 
 
     /**
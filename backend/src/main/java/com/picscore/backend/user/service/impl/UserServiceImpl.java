@@ -27,6 +27,7 @@ import com.picscore.backend.user.model.response.SearchUsersResponse;
 import com.picscore.backend.user.repository.FollowRepository;
 import com.picscore.backend.user.repository.UserFeedbackRepository;
 import com.picscore.backend.user.repository.UserRepository;
+import com.picscore.backend.user.search.UserSearchIndex;
 import com.picscore.backend.user.service.UserService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,6 +42,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -61,6 +63,7 @@ public class UserServiceImpl implements UserService {
     private final PhotoRepository photoRepository;
 
     private final PhotoService photoService;
+    private final UserSearchIndex userSearchIndex;
 
     private final JWTUtil jwtUtil;
     private final RedisUtil redisUtil;
@@ -76,6 +79,11 @@ public class UserServiceImpl implements UserService {
     @Value("${JWT_REDIS_EXP}")
     private String jwtRedisExp;
 
+    private static final int SEARCH_PAGE_SIZE = 20;
+
+    @Value("${user.search-index.max-page:50}")
+    private int maxSearchPage;
+
 
     /**
      * 현재 로그인한 사용자의 정보를 가져오는 메서드
@@ -124,18 +132,37 @@ public class UserServiceImpl implements UserService {
 
     /**
      * 사용자 검색 기능을 제공하는 메서드
+     * 사용자 검색 색인에서 관련도 순으로 한 페이지의 사용자 ID만 구한 뒤 해당 사용자만 조회합니다.
+     * 한 페이지는 SEARCH_PAGE_SIZE명이며, 페이지 번호는 user.search-index.max-page까지 허용합니다.
      *
      * @param searchText 검색할 닉네임 텍스트
+     * @param pageNum 조회할 페이지 번호 (1부터 시작)
      * @return ResponseEntity<BaseResponse<List<SearchUsersResponse>>> 검색된 사용자 목록을 포함한 응답
      */
     @Override
     public List<SearchUsersResponse> searchUser(
-            String searchText) {
+            String searchText, int pageNum) {
+
+        if (pageNum < 1) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "페이지 번호는 1 이상의 값이어야 합니다.");
+        }
+        // 앞 페이지를 모두 힙에 담아 건너뛰므로 조회 가능한 페이지 수를 제한
+        if (pageNum > maxSearchPage) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "검색 결과는 " + maxSearchPage + "페이지까지 조회할 수 있습니다.");
+        }
+
+        // 1. 색인에서 검색어를 포함하는 닉네임의 사용자 ID를 관련도 순으로 조회
+        List<Long> userIds = userSearchIndex.search(searchText, (pageNum - 1) * SEARCH_PAGE_SIZE, SEARCH_PAGE_SIZE);
 
-        // 1. 주어진 검색어로 시작하는 닉네임을 가진 사용자들을 데이터베이스에서 조회
-        List<User> userList = userRepository.findByNickNameContaining(searchText);
+        // 2. 해당 사용자만 조회하여 색인의 순위대로 정렬
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        List<User> userList = userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        // 2. 조회된 사용자 목록을 SearchUsersResponse DTO로 변환
+        // 3. 조회된 사용자 목록을 SearchUsersResponse DTO로 변환
         List<SearchUsersResponse> response =
                 userList.stream() // 스트림 생성
                         .map(user -> { // 각 User 객체를 SearchUsersResponse로 변환
@@ -148,7 +175,7 @@ public class UserServiceImpl implements UserService {
                         })
                         .collect(Collectors.toList()); // 변환된 객체들을 리스트로 수집
 
-        // 3. 성공 응답 생성 및 반환
+        // 4. 성공 응답 생성 및 반환
         return response;
     }
 
@@ -299,6 +326,7 @@ public class UserServiceImpl implements UserService {
 
         user.updateProfile(request.getNickName(), profileImageUrl, request.getMessage());
         userRepository.save(user);
+        userSearchIndex.put(userId, request.getNickName());
     }
 
 
@@ -0,0 +1,190 @@
+package com.picscore.backend.photo.search;
+
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.photo.repository.PhotoHashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HashtagSearchIndexTest {
+
+    private PhotoHashtagRepository photoHashtagRepository;
+    private HashtagSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        photoHashtagRepository = mock(PhotoHashtagRepository.class);
+        index = new HashtagSearchIndex(photoHashtagRepository, new TransactionUtil());
+    }
+
+    @Test
+    void ordersByMatchLevelThenLatestPhoto() {
+        index.addPhoto(1L, List.of("sunset"), true, 50f);
+        index.addPhoto(2L, List.of("sun"), true, 10f);
+        index.addPhoto(3L, List.of("sunny"), true, 90f);
+        index.addPhoto(4L, List.of("sun"), true, 30f);
+        index.addPhoto(5L, List.of("misunderstood"), true, 99f);
+
+        HashtagSearchIndex.SearchResult result = index.search("sun", false, null, 0, 10);
+
+        // 완전 일치(4, 2) -> 접두 일치(3, 1) -> 부분 일치(5), 같은 수준은 ID 내림차순
+        assertThat(photoIds(result)).containsExactly(4L, 2L, 3L, 1L, 5L);
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    void ordersTiesByScoreWhenRequested() {
+        index.addPhoto(1L, List.of("cat"), true, 70f);
+        index.addPhoto(2L, List.of("cat"), true, 90f);
+        index.addPhoto(3L, List.of("cat"), true, 70f);
+        index.addPhoto(4L, List.of("catnip"), true, 100f);
+
+        HashtagSearchIndex.SearchResult result = index.search("cat", true, null, 0, 10);
+
+        // 일치 수준이 우선이고, 같은 점수는 ID 내림차순
+        assertThat(photoIds(result)).containsExactly(2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    void usesBestMatchingTagOfPhoto() {
+        index.addPhoto(1L, List.of("dogs", "dog"), true, 0f);
+        index.addPhoto(2L, List.of("dogs"), true, 0f);
+
+        HashtagSearchIndex.SearchResult result = index.search("dog", false, null, 0, 10);
+
+        assertThat(result.getHits()).extracting(HashtagSearchIndex.Hit::getLevel)
+                .containsExactly(HashtagSearchIndex.EXACT, HashtagSearchIndex.PREFIX);
+        assertThat(photoIds(result)).containsExactly(1L, 2L);
+        assertThat(result.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void matchesShortQueriesWithoutTrigrams() {
+        index.addPhoto(1L, List.of("바다"), true, 0f);
+        index.addPhoto(2L, List.of("바다풍경"), true, 0f);
+        index.addPhoto(3L, List.of("ai"), true, 0f);
+        index.addPhoto(4L, List.of("rain"), true, 0f);
+
+        assertThat(photoIds(index.search("바다", false, null, 0, 10))).containsExactly(1L, 2L);
+        assertThat(photoIds(index.search("ai", false, null, 0, 10))).containsExactly(3L, 4L);
+        assertThat(photoIds(index.search("풍", false, null, 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void verifiesSubstringAfterTrigramIntersection() {
+        // "abcd"의 trigram(abc, bcd)을 모두 가지지만 "abcd"를 포함하지 않음
+        index.addPhoto(1L, List.of("abcxbcd"), true, 0f);
+        index.addPhoto(2L, List.of("zabcd"), true, 0f);
+
+        assertThat(photoIds(index.search("abcd", false, null, 0, 10))).containsExactly(2L);
+        assertThat(index.search("zzz", false, null, 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void normalizesKeywordAndTags() {
+        index.addPhoto(1L, List.of(" Travel "), true, 0f);
+
+        assertThat(photoIds(index.search("TRAVEL", false, null, 0, 10))).containsExactly(1L);
+        assertThat(index.search("  ", false, null, 0, 10).getHits()).isEmpty();
+    }
+
+    @Test
+    void continuesFromCursorWithoutGapsOrDuplicates() {
+        for (long photoId = 1; photoId <= 7; photoId++) {
+            index.addPhoto(photoId, List.of(photoId % 2 == 0 ? "tree" : "trees"), true, (float) (photoId % 3));
+        }
+        List<Long> all = photoIds(index.search("tree", true, null, 0, 100));
+
+        List<Long> paged = new ArrayList<>();
+        HashtagSearchIndex.Hit after = null;
+        HashtagSearchIndex.SearchResult page;
+        do {
+            page = index.search("tree", true, after, 0, 3);
+            paged.addAll(photoIds(page));
+            after = page.getHits().get(page.getHits().size() - 1);
+        } while (page.isHasNext());
+
+        assertThat(all).hasSize(7);
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void pagesByOffset() {
+        for (long photoId = 1; photoId <= 5; photoId++) {
+            index.addPhoto(photoId, List.of("snow"), true, 0f);
+        }
+
+        HashtagSearchIndex.SearchResult second = index.search("snow", false, null, 2, 2);
+        HashtagSearchIndex.SearchResult last = index.search("snow", false, null, 4, 2);
+
+        assertThat(photoIds(second)).containsExactly(3L, 2L);
+        assertThat(second.isHasNext()).isTrue();
+        assertThat(photoIds(last)).containsExactly(1L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsRangesThatOverflowTheHeap() {
+        index.addPhoto(1L, List.of("snow"), true, 0f);
+
+        assertThatThrownBy(() -> index.search("snow", false, null, -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("snow", false, null, Integer.MAX_VALUE - 5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void excludesPrivateAndRemovedPhotos() {
+        index.addPhoto(1L, List.of("food"), true, 0f);
+        index.addPhoto(2L, List.of("food"), false, 0f);
+        index.addPhoto(3L, List.of("food"), true, 0f);
+
+        index.removePhoto(3L);
+        assertThat(photoIds(index.search("food", false, null, 0, 10))).containsExactly(1L);
+
+        index.updateVisibility(2L, true);
+        index.updateVisibility(1L, false);
+        assertThat(photoIds(index.search("food", false, null, 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void rebuildLoadsRowsAndKeepsUpdatesMadeDuringRebuild() {
+        when(photoHashtagRepository.findAllForIndex()).thenAnswer(invocation -> {
+            // DB 조회 이후 다른 요청에서 커밋된 변경
+            index.addPhoto(3L, List.of("river"), true, 0f);
+            index.removePhoto(1L);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1L, "river", true, 10f});
+            rows.add(new Object[]{2L, "river", true, 20f});
+            rows.add(new Object[]{2L, "lake", true, 20f});
+            return rows;
+        });
+
+        index.rebuild();
+
+        assertThat(photoIds(index.search("river", false, null, 0, 10))).containsExactly(3L, 2L);
+        assertThat(photoIds(index.search("lake", false, null, 0, 10))).containsExactly(2L);
+
+        // 재구성이 끝난 뒤의 변경은 기록 없이 바로 반영
+        index.addPhoto(4L, List.of("lake"), true, 0f);
+        assertThat(photoIds(index.search("lake", false, null, 0, 10))).containsExactly(4L, 2L);
+    }
+
+
+    private List<Long> photoIds(
+            HashtagSearchIndex.SearchResult result) {
+
+        return result.getHits().stream()
+                .map(HashtagSearchIndex.Hit::getPhotoId)
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.picscore.backend.photo.search;
+
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.photo.repository.PhotoHashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HashtagSuggestTrieTest {
+
+    private PhotoHashtagRepository photoHashtagRepository;
+    private HashtagSuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        photoHashtagRepository = mock(PhotoHashtagRepository.class);
+        trie = new HashtagSuggestTrie(photoHashtagRepository, new TransactionUtil());
+    }
+
+    @Test
+    void suggestsByUsageCountWithinPrefix() {
+        increase("sea", 2);
+        increase("seoul", 5);
+        increase("season", 3);
+        increase("sky", 9);
+
+        assertThat(names(trie.suggest("se", 10))).containsExactly("seoul", "season", "sea");
+        assertThat(trie.suggest("se", 10)).extracting(HashtagSuggestTrie.Suggestion::getCount)
+                .containsExactly(5L, 3L, 2L);
+        assertThat(names(trie.suggest("s", 2))).containsExactly("sky", "seoul");
+        assertThat(trie.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void promotesTagPastOthersAsCountGrows() {
+        increase("cat", 3);
+        increase("car", 2);
+        increase("cap", 1);
+
+        increase("cap", 3);
+
+        assertThat(names(trie.suggest("ca", 10))).containsExactly("cap", "cat", "car");
+        // 경로상의 모든 노드에서 갱신
+        assertThat(names(trie.suggest("c", 10))).containsExactly("cap", "cat", "car");
+        assertThat(names(trie.suggest("cap", 10))).containsExactly("cap");
+    }
+
+    @Test
+    void keepsEarlierTagFirstOnTie() {
+        increase("moon", 2);
+        increase("morning", 1);
+
+        increase("morning", 1);
+
+        assertThat(names(trie.suggest("mo", 10))).containsExactly("moon", "morning");
+    }
+
+    @Test
+    void keepsOnlyTopSuggestionsAndAdmitsTagThatOvertakesLast() {
+        for (int i = 0; i < HashtagSuggestTrie.MAX_SUGGESTIONS; i++) {
+            increase("tag" + i, 10 + i);
+        }
+        increase("tagx", 10);
+
+        List<String> top = names(trie.suggest("tag", 100));
+        assertThat(top).hasSize(HashtagSuggestTrie.MAX_SUGGESTIONS).doesNotContain("tagx");
+
+        // 마지막 항목(tag0, 10회)보다 많아지면 목록에 들어가고 마지막 항목이 밀려남
+        increase("tagx", 1);
+        top = names(trie.suggest("tag", 100));
+        assertThat(top).hasSize(HashtagSuggestTrie.MAX_SUGGESTIONS).contains("tagx").doesNotContain("tag0");
+        assertThat(top.get(top.size() - 1)).isEqualTo("tagx");
+    }
+
+    @Test
+    void demotesTagAndAdmitsNextBestWhenCountDrops() {
+        for (int i = 0; i < HashtagSuggestTrie.MAX_SUGGESTIONS; i++) {
+            increase("tag" + i, 10 + i);
+        }
+        increase("tagx", 5);
+
+        // 목록 밖에 있던 tagx가 0회가 된 tag9 대신 들어옴
+        trie.decrease(Collections.nCopies(19, "tag9"));
+
+        List<String> top = names(trie.suggest("tag", 100));
+        assertThat(top).hasSize(HashtagSuggestTrie.MAX_SUGGESTIONS).contains("tagx").doesNotContain("tag9");
+        assertThat(top.get(0)).isEqualTo("tag8");
+        assertThat(names(trie.suggest("t", 100))).hasSize(HashtagSuggestTrie.MAX_SUGGESTIONS).doesNotContain("tag9");
+        assertThat(trie.suggest("tag9", 10)).isEmpty();
+    }
+
+    @Test
+    void reordersOnDecreaseAndIgnoresUnknownTags() {
+        increase("rain", 3);
+        increase("rainbow", 2);
+
+        trie.decrease(List.of("rain", "rain", "unknown"));
+
+        assertThat(trie.suggest("rain", 10))
+                .extracting(HashtagSuggestTrie.Suggestion::getName, HashtagSuggestTrie.Suggestion::getCount)
+                .containsExactly(tuple("rainbow", 2L), tuple("rain", 1L));
+    }
+
+    @Test
+    void normalizesPrefixAndNames() {
+        increase(" Paris ", 1);
+
+        assertThat(names(trie.suggest("PA", 10))).containsExactly("paris");
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+        assertThat(trie.suggest("pa", 0)).isEmpty();
+    }
+
+    @Test
+    void rebuildLoadsCountsAndKeepsIncreasesMadeDuringRebuild() {
+        when(photoHashtagRepository.countByHashtagName()).thenAnswer(invocation -> {
+            // DB 조회 이후 다른 요청에서 커밋된 사용
+            trie.increase(List.of("beach", "bridge"));
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{"beach", 1L});
+            rows.add(new Object[]{"bread", 4L});
+            return rows;
+        });
+
+        trie.rebuild();
+
+        assertThat(trie.suggest("b", 10))
+                .extracting(HashtagSuggestTrie.Suggestion::getName, HashtagSuggestTrie.Suggestion::getCount)
+                .containsExactly(tuple("bread", 4L), tuple("beach", 2L), tuple("bridge", 1L));
+    }
+
+
+    private void increase(
+            String hashtag, int times) {
+
+        trie.increase(Collections.nCopies(times, hashtag));
+    }
+
+    private List<String> names(
+            List<HashtagSuggestTrie.Suggestion> suggestions) {
+
+        return suggestions.stream()
+                .map(HashtagSuggestTrie.Suggestion::getName)
+                .toList();
+    }
+}
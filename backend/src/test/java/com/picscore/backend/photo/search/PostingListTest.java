@@ -0,0 +1,105 @@
+package com.picscore.backend.photo.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    void addKeepsIdsSortedAndIgnoresDuplicates() {
+        PostingList list = postingList(5, 1, 9, 3);
+
+        assertThat(list.add(3)).isFalse();
+        assertThat(list.size()).isEqualTo(4);
+        assertThat(ids(list)).containsExactly(1, 3, 5, 9);
+    }
+
+    @Test
+    void removeDeletesOnlyExistingIds() {
+        PostingList list = postingList(1, 3, 5);
+
+        assertThat(list.remove(4)).isFalse();
+        assertThat(list.remove(3)).isTrue();
+        assertThat(list.contains(3)).isFalse();
+        assertThat(ids(list)).containsExactly(1, 5);
+    }
+
+    @Test
+    void removeShrinksArrayAndKeepsRemainingIds() {
+        PostingList list = new PostingList();
+        for (long id = 0; id < 100; id++) {
+            list.add(id);
+        }
+        for (long id = 0; id < 95; id++) {
+            assertThat(list.remove(id)).isTrue();
+        }
+
+        assertThat(ids(list)).containsExactly(95, 96, 97, 98, 99);
+        assertThat(list.add(50)).isTrue();
+        assertThat(ids(list)).containsExactly(50, 95, 96, 97, 98, 99);
+    }
+
+    @Test
+    void removingLastIdLeavesEmptyList() {
+        PostingList list = postingList(7);
+
+        list.remove(7);
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(7)).isFalse();
+    }
+
+    @Test
+    void intersectReturnsCommonIds() {
+        PostingList left = postingList(1, 2, 4, 6, 8, 10);
+        PostingList right = postingList(2, 3, 6, 10, 12);
+
+        PostingList common = left.intersect(right);
+
+        assertThat(ids(common)).containsExactly(2, 6, 10);
+        // 원본은 변경되지 않음
+        assertThat(left.size()).isEqualTo(6);
+        assertThat(right.size()).isEqualTo(5);
+    }
+
+    @Test
+    void intersectWithDisjointOrEmptyListIsEmpty() {
+        PostingList list = postingList(1, 3, 5);
+
+        assertThat(list.intersect(postingList(2, 4)).isEmpty()).isTrue();
+        assertThat(list.intersect(new PostingList()).isEmpty()).isTrue();
+        assertThat(new PostingList().intersect(list).isEmpty()).isTrue();
+    }
+
+    @Test
+    void intersectionResultCanGrow() {
+        PostingList common = postingList(1, 2).intersect(postingList(2, 3));
+
+        common.add(9);
+        common.add(0);
+
+        assertThat(ids(common)).containsExactly(0, 2, 9);
+    }
+
+
+    private PostingList postingList(
+            long... ids) {
+
+        PostingList list = new PostingList();
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private long[] ids(
+            PostingList list) {
+
+        long[] ids = new long[list.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = list.get(i);
+        }
+        return ids;
+    }
+}
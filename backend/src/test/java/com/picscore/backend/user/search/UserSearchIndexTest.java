@@ -0,0 +1,120 @@
+package com.picscore.backend.user.search;
+
+import com.picscore.backend.common.utill.TransactionUtil;
+import com.picscore.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSearchIndexTest {
+
+    private UserRepository userRepository;
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        index = new UserSearchIndex(userRepository, new TransactionUtil());
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        index.put(1L, "kim");
+        index.put(2L, "lee");
+        index.put(3L, "park");
+
+        assertThat(index.search("k", 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.search("z", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void longerQueryIntersectsBigramsAndVerifiesSubstring() {
+        // "abc"의 2-gram(ab, bc)을 모두 가지지만 "abc"를 포함하지 않음
+        index.put(1L, "abxbc");
+        index.put(2L, "xabc");
+        index.put(3L, "ab");
+
+        assertThat(index.search("abc", 0, 10)).containsExactly(2L);
+        assertThat(index.search("ab", 0, 10)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void findsTwoSyllableKoreanNickNames() {
+        index.put(1L, "하늘");
+        index.put(2L, "파란하늘");
+        index.put(3L, "하루");
+
+        assertThat(index.search("하늘", 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("하", 0, 10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void ordersByLevelThenShorterNickNameThenUserId() {
+        index.put(5L, "photo");
+        index.put(4L, "photographer");
+        index.put(3L, "myphoto");
+        index.put(2L, "photos");
+        index.put(1L, "photon");
+
+        // 완전 일치 -> 접두 일치(짧은 닉네임, 같은 길이는 ID 오름차순) -> 부분 일치
+        assertThat(index.search("photo", 0, 10)).containsExactly(5L, 1L, 2L, 4L, 3L);
+    }
+
+    @Test
+    void pagesByOffsetAndLimit() {
+        for (long userId = 1; userId <= 5; userId++) {
+            index.put(userId, "user" + userId);
+        }
+
+        assertThat(index.search("user", 0, 2)).containsExactly(1L, 2L);
+        assertThat(index.search("user", 2, 2)).containsExactly(3L, 4L);
+        assertThat(index.search("user", 4, 2)).containsExactly(5L);
+        assertThat(index.search("user", 0, 0)).isEmpty();
+    }
+
+    @Test
+    void rejectsRangesThatOverflowTheHeap() {
+        index.put(1L, "user1");
+
+        assertThatThrownBy(() -> index.search("user", -1, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("user", Integer.MAX_VALUE - 10, 20)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nickNameChangeReplacesOldGrams() {
+        index.put(1L, "oldname");
+
+        index.put(1L, "NewName");
+
+        assertThat(index.search("old", 0, 10)).isEmpty();
+        assertThat(index.search("newname", 0, 10)).containsExactly(1L);
+        assertThat(index.search("NEW", 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void rebuildLoadsNickNamesAndKeepsUpdatesMadeDuringRebuild() {
+        when(userRepository.findAllNickNames()).thenAnswer(invocation -> {
+            // DB 조회 이후 다른 요청에서 커밋된 가입과 닉네임 변경
+            index.put(3L, "charlie");
+            index.put(1L, "alpha2");
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1L, "alpha"});
+            rows.add(new Object[]{2L, "bravo"});
+            return rows;
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("alpha", 0, 10)).containsExactly(1L);
+        assertThat(index.search("alpha2", 0, 10)).containsExactly(1L);
+        assertThat(index.search("charlie", 0, 10)).containsExactly(3L);
+        assertThat(index.search("bravo", 0, 10)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,108 @@
+-- data.sql 덤프 이후 적용해야 하는 스키마 변경 사항
+-- (spring.jpa.hibernate.ddl-auto = none 이므로 배포 전 순서대로 수동 적용)
+
+--
+-- 커서 기반 사진 피드 (GET /api/v1/photos/scroll)
+--
+
+ALTER TABLE `photo`
+  ADD KEY `idx_photo_public_created` (`is_public`, `created_at`, `photo_id`),
+  ADD KEY `idx_photo_public_score` (`is_public`, `score`, `photo_id`);
+
+--
+-- 사진 좋아요 수 비정규화 (photo.like_count)
+--
+
+ALTER TABLE `photo`
+  ADD COLUMN `like_count` int NOT NULL DEFAULT 0 AFTER `photo_type`,
+  ADD KEY `idx_photo_public_like` (`is_public`, `like_count`, `photo_id`);
+
+UPDATE `photo` p
+  LEFT JOIN (SELECT `photo_id`, COUNT(*) AS `cnt` FROM `photo_like` GROUP BY `photo_id`) pl
+    ON pl.`photo_id` = p.`photo_id`
+SET p.`like_count` = COALESCE(pl.`cnt`, 0);
+
+--
+-- 좋아요 write-behind 반영 시 (photo_id, user_id) 조회용 인덱스
+--
+
+ALTER TABLE `photo_like`
+  ADD KEY `idx_photo_like_photo_user` (`photo_id`, `user_id`);
+
+--
+-- 썸네일 비동기 생성 (photo.thumbnail_url, 작업 완료 전에는 NULL)
+--
+
+ALTER TABLE `photo`
+  ADD COLUMN `thumbnail_url` varchar(300) DEFAULT NULL AFTER `image_url`;
+
+UPDATE `photo`
+SET `thumbnail_url` = REPLACE(`image_url`, '/permanent/', '/thumbnail/')
+WHERE `image_url` LIKE '%/permanent/%';
+
+--
+-- 다중 해상도 파생 이미지 (photo.derivative_urls, {"너비": "URL"} JSON)
+--
+
+ALTER TABLE `photo`
+  ADD COLUMN `derivative_urls` text DEFAULT NULL AFTER `analysis_text`;
+
+--
+-- 콘텐츠 해시 기반 업로드 중복 제거 (image_object.ref_count = 원본을 참조하는 저장된 사진 수)
+--
+
+CREATE TABLE `image_object` (
+  `image_object_id` bigint unsigned NOT NULL AUTO_INCREMENT,
+  `content_hash` char(64) NOT NULL,
+  `image_name` varchar(255) NOT NULL,
+  `size` bigint NOT NULL,
+  `ref_count` int NOT NULL DEFAULT '0',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`image_object_id`),
+  UNIQUE KEY `uk_image_object_content_hash` (`content_hash`),
+  UNIQUE KEY `uk_image_object_image_name` (`image_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+ALTER TABLE `photo`
+  ADD KEY `idx_photo_image_url` (`image_url`);
+
+--
+-- 업로드 원본을 처음부터 permanent 폴더에 저장 (image_object.committed = 사진/타임어택에서 참조된 적 있음)
+-- 커밋되지 않은 채 보관 기간이 지난 객체는 정리 작업이 삭제하며, temp 폴더에 남은 이전 업로드도 함께 정리됨
+--
+
+ALTER TABLE `image_object`
+  ADD COLUMN `committed` tinyint(1) NOT NULL DEFAULT '0' AFTER `ref_count`,
+  ADD COLUMN `uploaded_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP AFTER `committed`,
+  ADD KEY `idx_image_object_committed_uploaded_at` (`committed`, `uploaded_at`);
+
+UPDATE `image_object` SET `committed` = 1 WHERE `ref_count` > 0;
+
+-- 이전 방식으로 temp 폴더에만 올라가 있던 미저장 업로드는 permanent 원본이 없으므로 다시 업로드하도록 제거
+DELETE FROM `image_object` WHERE `committed` = 0;
+
+--
+-- 직접 업로드 URL 발급 시 이미지 객체를 콘텐츠 해시 없이 예약 (업로드 완료 확인 후 해시 설정)
+-- 완료 요청 없이 남은 업로드도 커밋되지 않은 객체로 정리 작업 대상이 됨
+--
+
+ALTER TABLE `image_object`
+  MODIFY COLUMN `content_hash` char(64) DEFAULT NULL;
+
+--
+-- 해시태그 이름 유니크 인덱스 (동시 생성 시 중복 방지, INSERT IGNORE 기반 일괄 저장)
+-- 기존 중복 해시태그는 ID가 가장 작은 행으로 합친 뒤 제거
+--
+
+UPDATE `photo_hashtag` ph
+  JOIN `hashtag` h ON ph.`hashtag_id` = h.`hashtag_id`
+  JOIN (SELECT `name`, MIN(`hashtag_id`) AS `keep_id` FROM `hashtag` GROUP BY `name`) k ON k.`name` = h.`name`
+SET ph.`hashtag_id` = k.`keep_id`
+WHERE ph.`hashtag_id` <> k.`keep_id`;
+
+DELETE h FROM `hashtag` h
+  JOIN (SELECT `name`, MIN(`hashtag_id`) AS `keep_id` FROM `hashtag` GROUP BY `name`) k ON k.`name` = h.`name`
+WHERE h.`hashtag_id` <> k.`keep_id`;
+
+ALTER TABLE `hashtag`
+  ADD UNIQUE KEY `uk_hashtag_name` (`name`);
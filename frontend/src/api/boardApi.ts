@@ -74,6 +74,15 @@ export const boardApi = {
       },
     });
   },
+  // 이전 응답의 nextCursor로 다음 검색 결과 조회 (첫 요청은 cursor 생략)
+  scrollSearchPhoto: (inputText: string, cursor: string) => {
+    return testApi.get(`/api/v1/photo/search/scroll`, {
+      params: {
+        keyword: inputText,
+        cursor: cursor || undefined,
+      },
+    });
+  },
   likes: (photoId: number) => {
     return testApi.post(`/api/v1/photo/like/${photoId}`);
   },
@@ -95,7 +95,9 @@ export const friendApi = {
     );
   },
 
-  searchFriends: (searchText: string) => {
-    return testApi.get(`/api/v1/user/search/${searchText}`);
+  searchFriends: (searchText: string, pageNum: number = 1) => {
+    return testApi.get(`/api/v1/user/search/${searchText}`, {
+      params: { pageNum },
+    });
   },
 };
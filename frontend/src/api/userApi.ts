@@ -1,5 +1,16 @@
 import { testApi } from "./api";
 
+// 사용자 검색 한 페이지 크기와 조회 가능한 최대 페이지 (백엔드 user.search-index.max-page)
+export const USER_SEARCH_PAGE_SIZE = 20;
+export const USER_SEARCH_MAX_PAGE = 50;
+
+// 마지막 페이지가 가득 찼으면 다음 페이지 번호, 아니면 undefined (useInfiniteQuery의 getNextPageParam)
+export const nextUserSearchPage = (last: unknown[], allPages: unknown[][]) =>
+  last.length === USER_SEARCH_PAGE_SIZE &&
+  allPages.length < USER_SEARCH_MAX_PAGE
+    ? allPages.length + 1
+    : undefined;
+
 // 공통 API 응답 타입 정의
 interface BaseResponse<T> {
   data: T;
@@ -123,9 +134,10 @@ export const userApi = {
   },
 
   // Search functionality
-  searchUser: (searchText: string) => {
+  searchUser: (searchText: string, pageNum: number = 1) => {
     return testApi.get<BaseResponse<SearchUserResponse[]>>(
-      `/api/v1/user/search/${searchText}`
+      `/api/v1/user/search/${searchText}`,
+      { params: { pageNum } }
     );
   },
 
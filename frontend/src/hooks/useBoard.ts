@@ -82,15 +82,18 @@ export const useDeletePhoto = (photoId: number) => {
 };
 
 export const useSearchPhotos = (inputText: string | undefined) => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ["search-photos", inputText],
-    queryFn: async () => {
+    queryFn: async ({ pageParam }) => {
       if (!inputText || inputText.trim() === "") {
-        return [];
+        return { photos: [], nextCursor: null, hasNext: false };
       }
-      const response = await boardApi.searchPhoto(inputText);
+      const response = await boardApi.scrollSearchPhoto(inputText, pageParam);
       return response.data.data;
     },
+    // 다음 페이지는 이전 응답의 nextCursor로 조회
+    getNextPageParam: (last) => (last.hasNext ? last.nextCursor : undefined),
+    initialPageParam: "",
     enabled: !!inputText, // inputText가 존재할 때만 쿼리 실행
   });
 };
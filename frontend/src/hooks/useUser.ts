@@ -1,8 +1,13 @@
 import { testApi } from "../api/api";
 import { useAuthStore } from "../store/authStore";
 
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
-import { userApi } from "../api/userApi";
+import {
+  useInfiniteQuery,
+  useQuery,
+  useMutation,
+  useQueryClient,
+} from "@tanstack/react-query";
+import { nextUserSearchPage, userApi } from "../api/userApi";
 import axios from "axios";
 
 const baseURL = import.meta.env.VITE_BASE_URL;
@@ -113,14 +118,16 @@ export const useDeleteFollower = () => {
   });
 };
 
-// Search hook
+// Search hook (페이지가 가득 차 있으면 다음 페이지를 이어서 조회)
 export const useSearchUsers = (searchText: string) => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ["searchUsers", searchText],
-    queryFn: async () => {
-      const response = await userApi.searchUser(searchText);
-      return response.data;
+    queryFn: async ({ pageParam }) => {
+      const response = await userApi.searchUser(searchText, pageParam);
+      return response.data.data;
     },
+    getNextPageParam: nextUserSearchPage,
+    initialPageParam: 1,
     enabled: searchText.length > 0,
   });
 };
@@ -3,6 +3,8 @@ import { useSearchPhotos } from "../../hooks/useBoard";
 import SearchBar from "./components/SearchBar";
 import { useEffect } from "react";
 import { useQueryClient } from "@tanstack/react-query";
+import { useInView } from "react-intersection-observer";
+import { FadeLoader } from "react-spinners";
 import BottomBar from "../../components/BottomBar/BottomBar";
 
 interface PostType {
@@ -13,9 +15,28 @@ interface PostType {
 function SearchResult() {
   const { search } = useParams();
   const navigate = useNavigate();
-  const { data, isLoading, isError } = useSearchPhotos(search);
+  const {
+    data: pages,
+    isLoading,
+    isError,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+  } = useSearchPhotos(search);
+  const data: PostType[] = pages?.pages.flatMap((page) => page.photos) || [];
   const queryClient = useQueryClient();
 
+  // 목록 끝이 보이면 다음 페이지 조회
+  const { ref, inView } = useInView({
+    rootMargin: "0px 0px 400px 0px",
+  });
+
+  useEffect(() => {
+    if (inView && hasNextPage && !isFetchingNextPage) {
+      fetchNextPage();
+    }
+  }, [inView]);
+
   // search 파라미터가 변경될 때마다 쿼리 무효화
   useEffect(() => {
     if (search) {
@@ -69,6 +90,11 @@ function SearchResult() {
             표시할 사진이 없습니다
           </div>
         )}
+        <div ref={ref} className="w-full h-20 flex items-center justify-center">
+          {isFetchingNextPage && (
+            <FadeLoader color="#a4e857" height={12} radius={8} />
+          )}
+        </div>
       </div>
       <BottomBar />
     </div>
@@ -1,9 +1,11 @@
 import { MagnifyingGlassIcon, XCircleIcon } from "@heroicons/react/16/solid";
 import { useEffect, useState } from "react";
 import { useSearchPhotos } from "../../../hooks/useBoard";
-import { useQuery } from "@tanstack/react-query";
+import { useInfiniteQuery } from "@tanstack/react-query";
 import { friendApi } from "../../../api/friendApi";
+import { nextUserSearchPage } from "../../../api/userApi";
 import { useNavigate } from "react-router-dom";
+import { useInView } from "react-intersection-observer";
 function SearchBar() {
   interface SearchFriendsResponse {
     message: string;
@@ -12,13 +14,15 @@ function SearchBar() {
     userId: number;
   }
   const useSearchFriends = (searchText: string) => {
-    return useQuery<SearchFriendsResponse[]>({
+    return useInfiniteQuery({
       queryKey: ["search-friends", searchText],
-      queryFn: async () => {
+      queryFn: async ({ pageParam }): Promise<SearchFriendsResponse[]> => {
         if (!searchText || searchText.trim() === "") return [];
-        const response = await friendApi.searchFriends(searchText);
+        const response = await friendApi.searchFriends(searchText, pageParam);
         return response.data.data;
       },
+      getNextPageParam: nextUserSearchPage,
+      initialPageParam: 1,
       enabled: searchText.trim().length > 0,
     });
   };
@@ -66,7 +70,20 @@ function SearchBar() {
   //   }, 500);
   // });
 
-  const users = searchFriends.data;
+  const users = searchFriends.data?.pages.flat();
+
+  // 목록 끝이 보이면 다음 페이지 조회
+  const { ref, inView } = useInView();
+
+  useEffect(() => {
+    if (
+      inView &&
+      searchFriends.hasNextPage &&
+      !searchFriends.isFetchingNextPage
+    ) {
+      searchFriends.fetchNextPage();
+    }
+  }, [inView]);
 
   return (
     <div className={`${active && "relative h-full"}`}>
@@ -96,10 +113,10 @@ function SearchBar() {
         </div>
       </div>
       {active && (
-        <div className="absolute top-12 left-0 w-full h-full pt-2 bg-white ">
+        <div className="absolute top-12 left-0 w-full h-full pt-2 bg-white overflow-y-auto">
           {users &&
             users.length > 0 &&
-            users.slice(0, 5).map((user, index) => (
+            users.map((user, index) => (
               <div
                 key={index}
                 className="px-4 py-2 flex items-center cursor-pointer active:bg-gray-100"
@@ -120,6 +137,7 @@ function SearchBar() {
                 </div>
               </div>
             ))}
+          <div ref={ref} className="h-4" />
         </div>
       )}
     </div>